@@ -35,6 +35,7 @@ public class APCmkIControllerExtensionDefinition extends AbstractControllerExten
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new APCControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), false);
+        final HostImpl hostImpl = new HostImpl (host);
+        return new APCControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), false);
     }
 }
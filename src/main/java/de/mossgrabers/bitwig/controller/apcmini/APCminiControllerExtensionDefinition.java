@@ -35,6 +35,7 @@ public class APCminiControllerExtensionDefinition extends AbstractControllerExte
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new APCminiControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
+        final HostImpl hostImpl = new HostImpl (host);
+        return new APCminiControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
     }
 }
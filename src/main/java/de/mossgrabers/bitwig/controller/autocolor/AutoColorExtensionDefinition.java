@@ -35,6 +35,7 @@ public class AutoColorExtensionDefinition extends AbstractControllerExtensionDef
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new AutoColorSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
+        final HostImpl hostImpl = new HostImpl (host);
+        return new AutoColorSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
     }
 }
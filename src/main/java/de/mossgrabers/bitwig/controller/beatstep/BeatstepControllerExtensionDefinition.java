@@ -35,6 +35,7 @@ public class BeatstepControllerExtensionDefinition extends AbstractControllerExt
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new BeatstepControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
+        final HostImpl hostImpl = new HostImpl (host);
+        return new BeatstepControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()));
     }
 }
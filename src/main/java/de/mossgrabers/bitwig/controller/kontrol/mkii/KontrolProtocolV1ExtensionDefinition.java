@@ -37,6 +37,7 @@ public class KontrolProtocolV1ExtensionDefinition extends AbstractControllerExte
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new KontrolProtocolControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), KontrolProtocol.VERSION_1);
+        final HostImpl hostImpl = new HostImpl (host);
+        return new KontrolProtocolControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), KontrolProtocol.VERSION_1);
     }
 }
@@ -38,6 +38,7 @@ public class LaunchpadMiniMkIIIControllerExtensionDefinition extends AbstractCon
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new LaunchpadControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), DEFINITION);
+        final HostImpl hostImpl = new HostImpl (host);
+        return new LaunchpadControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), DEFINITION);
     }
 }
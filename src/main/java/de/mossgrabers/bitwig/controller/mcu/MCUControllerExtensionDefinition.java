@@ -41,6 +41,7 @@ abstract class MCUControllerExtensionDefinition extends AbstractControllerExtens
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new MCUControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), this.numMCUDevices);
+        final HostImpl hostImpl = new HostImpl (host);
+        return new MCUControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), this.numMCUDevices);
     }
 }
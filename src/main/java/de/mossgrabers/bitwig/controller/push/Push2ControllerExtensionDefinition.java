@@ -35,7 +35,8 @@ public class Push2ControllerExtensionDefinition extends AbstractControllerExtens
     @Override
     protected IControllerSetup<?, ?> getControllerSetup (final ControllerHost host)
     {
-        return new PushControllerSetup (new HostImpl (host), new BitwigSetupFactory (host), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), true);
+        final HostImpl hostImpl = new HostImpl (host);
+        return new PushControllerSetup (hostImpl, new BitwigSetupFactory (hostImpl), new SettingsUIImpl (host.getPreferences ()), new SettingsUIImpl (host.getDocumentState ()), true);
     }
 
 
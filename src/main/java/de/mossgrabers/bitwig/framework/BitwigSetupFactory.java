@@ -17,8 +17,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.scale.Scales;
 
-import com.bitwig.extension.controller.api.ControllerHost;
-
 
 /**
  * Factory for creating Bitwig objects.
@@ -27,17 +25,17 @@ import com.bitwig.extension.controller.api.ControllerHost;
  */
 public class BitwigSetupFactory implements ISetupFactory
 {
-    private ControllerHost controllerHost;
+    private final HostImpl host;
 
 
     /**
      * Constructor.
      *
-     * @param controllerHost The DAW host
+     * @param host The DAW host, shared with the model
      */
-    public BitwigSetupFactory (final ControllerHost controllerHost)
+    public BitwigSetupFactory (final HostImpl host)
     {
-        this.controllerHost = controllerHost;
+        this.host = host;
     }
 
 
@@ -45,8 +43,8 @@ public class BitwigSetupFactory implements ISetupFactory
     @Override
     public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
     {
-        final DataSetup dataSetup = new DataSetup (new HostImpl (this.controllerHost), valueChanger, colorManager);
-        return new ModelImpl (modelSetup, dataSetup, this.controllerHost, scales);
+        final DataSetup dataSetup = new DataSetup (this.host, valueChanger, colorManager);
+        return new ModelImpl (modelSetup, dataSetup, this.host.getControllerHost (), scales);
     }
 
 
@@ -54,7 +52,7 @@ public class BitwigSetupFactory implements ISetupFactory
     @Override
     public IMidiAccess createMidiAccess ()
     {
-        return new MidiDeviceImpl (this.controllerHost);
+        return new MidiDeviceImpl (this.host);
     }
 
 
@@ -185,7 +185,7 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
         if (!this.canScrollPageBackwards ())
             return;
         this.scrollPageBackwards ();
-        this.host.scheduleTask ( () -> this.getItem (this.pageSize - 1).select (), 75);
+        this.selectItemDelayed (this.pageSize - 1);
     }
 
 
@@ -196,7 +196,7 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
         if (!this.canScrollPageForwards ())
             return;
         this.scrollPageForwards ();
-        this.host.scheduleTask ( () -> this.getItem (0).select (), 75);
+        this.selectItemDelayed (0);
     }
 
 
@@ -7,8 +7,8 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.IndexedFlags;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IIndexedValueObserver;
 
@@ -28,6 +28,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     private final ApplicationImpl application;
     protected final CursorTrack   cursorTrack;
     private final Track           rootGroup;
+    private final IndexedFlags    recordingSlots = new IndexedFlags ();
 
 
     /**
@@ -50,6 +51,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
         this.application = application;
         this.cursorTrack = cursorTrack;
         this.rootGroup = rootGroup;
+        this.selectionIndex = new IndexedFlags ();
 
         this.initItems ();
 
@@ -67,6 +69,16 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
                     this.handleBankSelection (i, isSelected);
             }
         });
+
+        for (int t = 0; t < this.getPageSize (); t++)
+        {
+            final ClipLauncherSlotBank slotBank = this.bank.getItemAt (t).clipLauncherSlotBank ();
+            for (int s = 0; s < this.numScenes; s++)
+            {
+                final int index = t * this.numScenes + s;
+                slotBank.getItemAt (s).isRecording ().addValueObserver (isRecording -> this.recordingSlots.set (index, isRecording));
+            }
+        }
     }
 
 
@@ -109,16 +121,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     @Override
     public boolean isClipRecording ()
     {
-        for (int t = 0; t < this.getPageSize (); t++)
-        {
-            final ISlotBank slotBank = this.items.get (t).getSlotBank ();
-            for (int s = 0; s < this.numScenes; s++)
-            {
-                if (slotBank.getItem (s).isRecording ())
-                    return true;
-            }
-        }
-        return false;
+        return this.recordingSlots.isAnySet ();
     }
 
 
@@ -6,11 +6,13 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnImpl;
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnItemImpl;
+import de.mossgrabers.bitwig.framework.daw.data.BrowserItemCrawler;
 import de.mossgrabers.bitwig.framework.daw.data.ChannelImpl;
 import de.mossgrabers.bitwig.framework.daw.data.DrumPadImpl;
 import de.mossgrabers.bitwig.framework.daw.data.SlotImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
@@ -32,27 +34,31 @@ import com.bitwig.extension.controller.api.PopupBrowser;
  */
 public class BrowserImpl extends AbstractBrowser
 {
+    private final IHost                   host;
     private final CursorDevice            cursorDevice;
     private final CursorTrack             cursorTrack;
     private final PopupBrowser            browser;
     private final BrowserFilterColumn []  filterColumns;
     private final CursorBrowserResultItem cursorResult;
     private final BrowserResultsItemBank  resultsItemBank;
+    private final BrowserItemCrawler      resultsCrawler;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param browser The browser
      * @param cursorTrack The cursor track
      * @param cursorDevice The cursor device
      * @param numFilterColumnEntries The number of entries in a filter column page
      * @param numResults The number of entries in a results column page
      */
-    public BrowserImpl (final PopupBrowser browser, final CursorTrack cursorTrack, final CursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
+    public BrowserImpl (final IHost host, final PopupBrowser browser, final CursorTrack cursorTrack, final CursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
     {
         super (numFilterColumnEntries, numResults);
 
+        this.host = host;
         this.cursorTrack = cursorTrack;
         this.cursorDevice = cursorDevice;
 
@@ -81,6 +87,16 @@ public class BrowserImpl extends AbstractBrowser
 
         this.resultsItemBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (this.numResults);
         this.resultData = this.createResultData (this.numResults);
+
+        // Index all results and filter items in the background while the browser is open
+        final BrowserResultsItemBank crawlBank = (BrowserResultsItemBank) this.cursorResult.createSiblingsBank (BrowserItemCrawler.PAGE_SIZE);
+        this.resultsCrawler = new BrowserItemCrawler (host, crawlBank, this.resultsItemBank);
+        this.resultsItemBank.cursorIndex ().markInterested ();
+
+        this.browser.exists ().addValueObserver (exists -> this.updateCrawlers (exists, true));
+        this.browser.selectedContentTypeIndex ().addValueObserver (index -> this.updateCrawlers (this.isActive (), true));
+        for (final IBrowserColumn column: this.columnData)
+            ((BrowserColumnImpl) column).addCursorNameObserver (name -> this.updateCrawlers (this.isActive (), false));
     }
 
 
@@ -256,6 +272,38 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean searchResult (final String text)
+    {
+        return this.resultsCrawler.search (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean searchNextResult ()
+    {
+        return this.resultsCrawler.searchNext ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean selectNextResultInitial (final boolean forward)
+    {
+        return this.resultsCrawler.selectNextInitial (forward);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isResultIndexComplete ()
+    {
+        return this.resultsCrawler.getIndex ().isComplete ();
+    }
+
+
     /**
      * Select the previous result page.
      */
@@ -274,11 +322,37 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /**
+     * (Re-)start or stop the indexing of the results and filter items.
+     *
+     * @param isActive True if the browser is open
+     * @param includeFilters True to also re-index the filter columns, otherwise only the results
+     *            (a filter selection changes only the results)
+     */
+    private void updateCrawlers (final boolean isActive, final boolean includeFilters)
+    {
+        if (!isActive)
+        {
+            this.resultsCrawler.stop ();
+            for (final IBrowserColumn column: this.columnData)
+                ((BrowserColumnImpl) column).getCrawler ().stop ();
+            return;
+        }
+
+        this.resultsCrawler.start ();
+        if (includeFilters)
+        {
+            for (final IBrowserColumn column: this.columnData)
+                ((BrowserColumnImpl) column).getCrawler ().start ();
+        }
+    }
+
+
     private IBrowserColumn [] createFilterColumns (final int count, final int numFilterColumnEntries)
     {
         final IBrowserColumn [] columns = new IBrowserColumn [count];
         for (int i = 0; i < count; i++)
-            columns[i] = new BrowserColumnImpl (this.filterColumns[i], i, numFilterColumnEntries);
+            columns[i] = new BrowserColumnImpl (this.host, this.filterColumns[i], i, numFilterColumnEntries);
         return columns;
     }
 
@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.bitwig.framework.daw.data.Util;
+import de.mossgrabers.framework.daw.IClipMatrixOverview;
+
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
+import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
+import com.bitwig.extension.controller.api.TrackBank;
+
+import java.util.BitSet;
+
+
+/**
+ * An overview of the clip matrix. Only observes the content and playing state of the slots of a
+ * large track bank and keeps the number of slots with content and of playing slots for each page.
+ * The slots are only observed while the overview is enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ClipMatrixOverviewImpl implements IClipMatrixOverview
+{
+    private final int                 numTrackPages;
+    private final int                 numScenePages;
+    private final BitSet              content = new BitSet ();
+    private final BitSet              playing = new BitSet ();
+    private final int []              contentCounts;
+    private final int []              playingCounts;
+    private final ClipLauncherSlot [] slots;
+
+
+    /**
+     * Constructor.
+     *
+     * @param bank The track bank to monitor, its size must be numTracks x numScenes
+     * @param numTracks The number of tracks to monitor
+     * @param numScenes The number of scenes to monitor
+     * @param numTracksOfPage The number of tracks of a page
+     * @param numScenesOfPage The number of scenes of a page
+     */
+    public ClipMatrixOverviewImpl (final TrackBank bank, final int numTracks, final int numScenes, final int numTracksOfPage, final int numScenesOfPage)
+    {
+        this.numTrackPages = (numTracks + numTracksOfPage - 1) / numTracksOfPage;
+        this.numScenePages = (numScenes + numScenesOfPage - 1) / numScenesOfPage;
+        this.contentCounts = new int [this.numTrackPages * this.numScenePages];
+        this.playingCounts = new int [this.numTrackPages * this.numScenePages];
+        this.slots = new ClipLauncherSlot [numTracks * numScenes];
+
+        for (int t = 0; t < numTracks; t++)
+        {
+            final ClipLauncherSlotBank slotBank = bank.getItemAt (t).clipLauncherSlotBank ();
+            for (int s = 0; s < numScenes; s++)
+            {
+                final ClipLauncherSlot slot = slotBank.getItemAt (s);
+                final int index = t * numScenes + s;
+                this.slots[index] = slot;
+                final int page = t / numTracksOfPage * this.numScenePages + s / numScenesOfPage;
+                slot.hasContent ().addValueObserver (hasContent -> update (this.content, this.contentCounts, index, page, hasContent));
+                slot.isPlaying ().addValueObserver (isPlaying -> update (this.playing, this.playingCounts, index, page, isPlaying));
+            }
+        }
+
+        this.enableObservers (false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        for (final ClipLauncherSlot slot: this.slots)
+        {
+            Util.setIsSubscribed (slot.hasContent (), enable);
+            Util.setIsSubscribed (slot.isPlaying (), enable);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumTrackPages ()
+    {
+        return this.numTrackPages;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumScenePages ()
+    {
+        return this.numScenePages;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getContentCount (final int trackPage, final int scenePage)
+    {
+        final int page = this.getPage (trackPage, scenePage);
+        return page < 0 ? 0 : this.contentCounts[page];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying (final int trackPage, final int scenePage)
+    {
+        final int page = this.getPage (trackPage, scenePage);
+        return page >= 0 && this.playingCounts[page] > 0;
+    }
+
+
+    private static void update (final BitSet states, final int [] counts, final int index, final int page, final boolean isSet)
+    {
+        if (states.get (index) == isSet)
+            return;
+        states.set (index, isSet);
+        counts[page] += isSet ? 1 : -1;
+    }
+
+
+    private int getPage (final int trackPage, final int scenePage)
+    {
+        if (trackPage < 0 || trackPage >= this.numTrackPages || scenePage < 0 || scenePage >= this.numScenePages)
+            return -1;
+        return trackPage * this.numScenePages + scenePage;
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.NoteStepIndex;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
 
@@ -17,6 +18,8 @@ import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.NoteStep;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
+import java.util.BitSet;
+
 
 /**
  * Proxy to the Bitwig Cursor clip.
@@ -31,9 +34,11 @@ public class CursorClipImpl implements INoteClip
     private int                      numRows;
 
     private final IStepInfo [] [] [] launcherData;
+    private final NoteStepIndex      launcherIndex;
     private Clip                     launcherClip;
     private int                      editPage = 0;
     private double                   stepLength;
+    private int                      contentVersion;
 
 
     /**
@@ -54,6 +59,7 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = 1.0 / 4.0; // 16th
 
         this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherIndex = new NoteStepIndex (16, this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -72,6 +78,9 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.canScrollStepsBackwards ().markInterested ();
         this.launcherClip.canScrollStepsForwards ().markInterested ();
         this.launcherClip.color ().markInterested ();
+
+        this.launcherClip.getLoopStart ().addValueObserver (value -> this.contentVersion++);
+        this.launcherClip.getLoopLength ().addValueObserver (value -> this.contentVersion++);
     }
 
 
@@ -323,6 +332,14 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getContentVersion ()
+    {
+        return this.contentVersion;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setStepLength (final double length)
@@ -403,6 +420,53 @@ public class CursorClipImpl implements INoteClip
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public BitSet getColumnNotes (final int channel, final int step)
+    {
+        return this.getStepIndex ().getNotes (channel, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnState (final int channel, final int step)
+    {
+        return this.getStepIndex ().getState (channel, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearColumn (final int channel, final int step)
+    {
+        this.getClip ().clearStepsAtX (channel, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void copyColumn (final int channel, final int fromStep, final int toStep)
+    {
+        final BitSet notes = this.getColumnNotes (channel, fromStep);
+        for (int row = notes.nextSetBit (0); row >= 0; row = notes.nextSetBit (row + 1))
+        {
+            final IStepInfo stepInfo = this.getStep (channel, fromStep, row);
+            if (stepInfo.getState () == IStepInfo.NOTE_START)
+                this.setStep (channel, toStep, row, stepInfo);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColumn (final int channel, final int step, final BitSet rows, final int [] velocities, final double duration)
+    {
+        for (int row = rows.nextSetBit (0); row >= 0; row = rows.nextSetBit (row + 1))
+            this.setStep (channel, step, row, velocities[row], duration);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void changeStepDuration (final int channel, final int step, final int row, final int control)
@@ -583,13 +647,23 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () > 0)
-                return true;
-        }
-        return false;
+        return this.getStepIndex ().hasNotes (channel, row);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int findNextStep (final int channel, final int row, final int step)
+    {
+        return this.getStepIndex ().getNextStep (channel, row, step);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int findPreviousStep (final int channel, final int row, final int step)
+    {
+        return this.getStepIndex ().getPreviousStep (channel, row, step);
     }
 
 
@@ -759,7 +833,7 @@ public class CursorClipImpl implements INoteClip
         if (!stepInfo.isEditing ())
             return;
         this.sendClipData (channel, step, row);
-        this.host.scheduleTask ( () -> this.delayedUpdate (channel, step, row), 100);
+        this.host.getTimerWheel ().schedule ( () -> this.delayedUpdate (channel, step, row), 100);
     }
 
 
@@ -796,8 +870,12 @@ public class CursorClipImpl implements INoteClip
     private void handleStepData (final NoteStep noteStep)
     {
         final StepInfoImpl sinfo = this.getUpdateableStep (noteStep.channel (), noteStep.x (), noteStep.y ());
+        final int oldState = sinfo.getState ();
         if (!sinfo.isEditing ())
             sinfo.updateData (noteStep);
+        if (sinfo.getState () != oldState)
+            this.contentVersion++;
+        this.getStepIndex ().set (noteStep.channel (), noteStep.x (), noteStep.y (), sinfo.getState ());
     }
 
 
@@ -853,4 +931,15 @@ public class CursorClipImpl implements INoteClip
     {
         return this.launcherData;
     }
+
+
+    /**
+     * Get the step index of the launcher clip.
+     *
+     * @return The step index
+     */
+    private NoteStepIndex getStepIndex ()
+    {
+        return this.launcherIndex;
+    }
 }
\ No newline at end of file
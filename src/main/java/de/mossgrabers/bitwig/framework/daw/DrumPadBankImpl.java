@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IDrumPadBank;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IndexedFlags;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.ILayer;
 
@@ -42,6 +43,7 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
         super (host, valueChanger, layerBank, numLayers, 0, numSends);
 
         this.numDevices = numDevices;
+        this.selectionIndex = new IndexedFlags ();
 
         this.initItems ();
 
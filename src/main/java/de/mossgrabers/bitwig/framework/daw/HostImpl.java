@@ -23,6 +23,8 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.FlushProfiler;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
 import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
@@ -35,6 +37,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -44,8 +47,11 @@ import java.util.List;
  */
 public class HostImpl implements IHost
 {
-    private ControllerHost   host;
-    private List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private ControllerHost      host;
+    private List<IUsbDevice>    usbDevices    = new ArrayList<> ();
+    private final TimerWheel    timerWheel    = new TimerWheel (this);
+    private final FlushProfiler flushProfiler = new FlushProfiler (this);
+    private final AtomicInteger pendingTasks  = new AtomicInteger ();
 
 
     /**
@@ -56,6 +62,8 @@ public class HostImpl implements IHost
     public HostImpl (final ControllerHost host)
     {
         this.host = host;
+
+        this.flushProfiler.registerValue ("Scheduled tasks pending", () -> this.pendingTasks.get ());
     }
 
 
@@ -139,7 +147,42 @@ public class HostImpl implements IHost
     @Override
     public void scheduleTask (final Runnable task, final long delay)
     {
-        this.host.scheduleTask (task, delay);
+        if (!this.flushProfiler.isEnabled ())
+        {
+            this.host.scheduleTask (task, delay);
+            return;
+        }
+
+        // Track the depth of the task queue
+        this.pendingTasks.incrementAndGet ();
+        this.host.scheduleTask ( () -> {
+            this.pendingTasks.decrementAndGet ();
+            task.run ();
+        }, delay);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void requestFlush ()
+    {
+        this.host.requestFlush ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public TimerWheel getTimerWheel ()
+    {
+        return this.timerWheel;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FlushProfiler getFlushProfiler ()
+    {
+        return this.flushProfiler;
     }
 
 
@@ -185,7 +228,7 @@ public class HostImpl implements IHost
     public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        return new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
     }
 
 
@@ -84,25 +84,22 @@ public class ModelImpl extends AbstractModel
         final MasterTrack master = controllerHost.createMasterTrack (0);
         this.masterTrack = new MasterTrackImpl (this.host, this.valueChanger, master, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application);
 
-        final TrackBank tb;
         final int numTracks = this.modelSetup.getNumTracks ();
         final int numSends = this.modelSetup.getNumSends ();
         final int numScenes = this.modelSetup.getNumScenes ();
+        final TrackBank tb = this.createTrackBank (numTracks, numSends, numScenes);
         if (this.modelSetup.hasFlatTrackList ())
-        {
-            if (this.modelSetup.hasFullFlatTrackList ())
-                tb = controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
-            else
-                tb = controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
             tb.followCursorTrack (this.cursorTrack);
-        }
-        else
-            tb = this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
 
         this.trackBank = new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, numSends);
         final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
         this.effectTrackBank = new EffectTrackBankImpl (this.host, this.valueChanger, effectTrackBank, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, this.trackBank);
 
+        final int numOverviewTracks = this.modelSetup.getNumOverviewTracks ();
+        final int numOverviewScenes = this.modelSetup.getNumOverviewScenes ();
+        if (numOverviewTracks > 0 && numOverviewScenes > 0)
+            this.clipMatrixOverview = new ClipMatrixOverviewImpl (this.createTrackBank (numOverviewTracks, 0, numOverviewScenes), numOverviewTracks, numOverviewScenes, numTracks, numScenes);
+
         final int numParams = this.modelSetup.getNumParams ();
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
         final int numDrumPadLayers = this.modelSetup.getNumDrumPadLayers ();
@@ -123,7 +120,7 @@ public class ModelImpl extends AbstractModel
 
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
-            this.browser = new BrowserImpl (controllerHost.createPopupBrowser (), this.cursorTrack, mainCursorDevice, this.modelSetup.getNumFilterColumnEntries (), numResults);
+            this.browser = new BrowserImpl (this.host, controllerHost.createPopupBrowser (), this.cursorTrack, mainCursorDevice, this.modelSetup.getNumFilterColumnEntries (), numResults);
 
         this.masterTrackEqualsValue = mainCursorDevice.channel ().createEqualsValue (master);
         this.masterTrackEqualsValue.markInterested ();
@@ -134,6 +131,24 @@ public class ModelImpl extends AbstractModel
     }
 
 
+    /**
+     * Create a track bank with the track list configured in the model setup.
+     *
+     * @param numTracks The number of tracks of a bank page
+     * @param numSends The number of sends of a bank page
+     * @param numScenes The number of scenes of a bank page
+     * @return The track bank
+     */
+    private TrackBank createTrackBank (final int numTracks, final int numSends, final int numScenes)
+    {
+        if (!this.modelSetup.hasFlatTrackList ())
+            return this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
+        if (this.modelSetup.hasFullFlatTrackList ())
+            return this.controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
+        return this.controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
+    }
+
+
     /**
      * Workaround for flush only happening if state changes since Bitwig 3.1 (which is intended and
      * not a bug).
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
@@ -26,16 +27,18 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     private IBrowserColumnItem []     items;
     private BrowserItemBank<?>        itemBank;
     private CursorBrowserFilterItem   cursorResult;
+    private final BrowserItemCrawler  crawler;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param column The column
      * @param index The index of the column
      * @param numFilterColumnEntries The number of entries in a filter column (bank page)
      */
-    public BrowserColumnImpl (final BrowserFilterColumn column, final int index, final int numFilterColumnEntries)
+    public BrowserColumnImpl (final IHost host, final BrowserFilterColumn column, final int index, final int numFilterColumnEntries)
     {
         super (index);
 
@@ -55,6 +58,9 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
         this.cursorResult = (CursorBrowserFilterItem) column.createCursorItem ();
         this.cursorResult.exists ().markInterested ();
         this.cursorResult.name ().markInterested ();
+
+        final BrowserItemBank<?> crawlBank = ((CursorBrowserItem) column.createCursorItem ()).createSiblingsBank (BrowserItemCrawler.PAGE_SIZE);
+        this.crawler = new BrowserItemCrawler (host, crawlBank, this.itemBank);
     }
 
 
@@ -201,4 +207,42 @@ public class BrowserColumnImpl extends AbstractItemImpl implements IBrowserColum
     {
         this.itemBank.cursorIndex ().set (index);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean searchItem (final String text)
+    {
+        return this.crawler.search (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean searchNextItem ()
+    {
+        return this.crawler.searchNext ();
+    }
+
+
+    /**
+     * Get the crawler which indexes the items of the column.
+     *
+     * @return The crawler
+     */
+    public BrowserItemCrawler getCrawler ()
+    {
+        return this.crawler;
+    }
+
+
+    /**
+     * Add an observer for the name of the selected filter item.
+     *
+     * @param observer The observer
+     */
+    public void addCursorNameObserver (final IValueObserver<String> observer)
+    {
+        this.cursorResult.name ().addValueObserver (observer::update);
+    }
 }
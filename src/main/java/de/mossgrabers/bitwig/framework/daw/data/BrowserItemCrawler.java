@@ -0,0 +1,259 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw.data;
+
+import de.mossgrabers.framework.daw.BrowserItemIndex;
+import de.mossgrabers.framework.daw.IHost;
+
+import com.bitwig.extension.controller.api.BrowserItemBank;
+
+
+/**
+ * Pages in the background through all items of a browser column (results or filter) with a
+ * separate bank and stores their names in a local index. The index is used to search for items
+ * and to jump directly to them in the visible bank of the column.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserItemCrawler
+{
+    /** The number of items retrieved with each step. */
+    public static final int          PAGE_SIZE   = 50;
+
+    /** Delay between two crawl steps to give the host time to update the names of a page. */
+    private static final int         STEP_DELAY  = 50;
+    /** Give up if the host does not scroll the bank to the requested position within 1 second. */
+    private static final int         MAX_RETRIES = 20;
+
+    private final IHost              host;
+    private final BrowserItemBank<?> crawlBank;
+    private final BrowserItemBank<?> visibleBank;
+    private final BrowserItemIndex   index       = new BrowserItemIndex ();
+
+    private int                      generation;
+    private boolean                  isEnabled;
+    private int                      position;
+    private int                      retries;
+    private boolean                  isPageSettled;
+    private String                   searchText  = "";
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param crawlBank The bank to use for crawling, must have a page size of PAGE_SIZE
+     * @param visibleBank The bank which displays the items to the user
+     */
+    public BrowserItemCrawler (final IHost host, final BrowserItemBank<?> crawlBank, final BrowserItemBank<?> visibleBank)
+    {
+        this.host = host;
+        this.crawlBank = crawlBank;
+        this.visibleBank = visibleBank;
+
+        this.crawlBank.scrollPosition ().markInterested ();
+        this.crawlBank.itemCount ().markInterested ();
+        for (int i = 0; i < PAGE_SIZE; i++)
+            this.crawlBank.getItemAt (i).name ().markInterested ();
+
+        this.visibleBank.scrollPosition ().markInterested ();
+        this.visibleBank.cursorIndex ().markInterested ();
+
+        // The list of items changed
+        this.crawlBank.itemCount ().addValueObserver (count -> {
+            if (this.isEnabled)
+                this.start ();
+        });
+
+        // Banks can only be created during initialization, therefore the crawl bank always exists
+        // but only receives updates while the crawler is enabled
+        this.setSubscribed (false);
+    }
+
+
+    /**
+     * Clears the index and (re-)starts crawling from the first item. Crawling is restarted
+     * automatically when the number of items changes until it is stopped.
+     */
+    public void start ()
+    {
+        this.generation++;
+        if (!this.isEnabled)
+        {
+            this.isEnabled = true;
+            this.setSubscribed (true);
+        }
+        this.position = 0;
+        this.retries = 0;
+        this.isPageSettled = false;
+        this.index.reset (this.crawlBank.itemCount ().get ());
+
+        final int currentGeneration = this.generation;
+        this.host.scheduleTask ( () -> this.crawl (currentGeneration), STEP_DELAY);
+    }
+
+
+    /**
+     * Stops crawling and clears the index.
+     */
+    public void stop ()
+    {
+        this.generation++;
+        if (this.isEnabled)
+        {
+            this.isEnabled = false;
+            this.setSubscribed (false);
+        }
+        this.index.reset (0);
+    }
+
+
+    /**
+     * Get the index of the item names.
+     *
+     * @return The index
+     */
+    public BrowserItemIndex getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /**
+     * Search for the first item which starts with (or contains) the given text, beginning with the
+     * currently selected item, and select it. Extending the text while typing therefore keeps the
+     * current item selected as long as it still matches.
+     *
+     * @param text The text to search for
+     * @return True if a matching item was found
+     */
+    public boolean search (final String text)
+    {
+        this.searchText = text == null ? "" : text;
+        return this.selectPosition (this.index.search (this.searchText, Math.max (0, this.getSelectedPosition ())));
+    }
+
+
+    /**
+     * Search for the next item matching the last search text and select it.
+     *
+     * @return True if a matching item was found
+     */
+    public boolean searchNext ()
+    {
+        return this.selectPosition (this.index.search (this.searchText, this.getSelectedPosition () + 1));
+    }
+
+
+    /**
+     * Get the text of the last search.
+     *
+     * @return The text
+     */
+    public String getSearchText ()
+    {
+        return this.searchText;
+    }
+
+
+    /**
+     * Select the next (or previous) item which starts with a different letter than the currently
+     * selected one.
+     *
+     * @param forward Search forward if true, backwards otherwise
+     * @return True if an item was found
+     */
+    public boolean selectNextInitial (final boolean forward)
+    {
+        return this.selectPosition (this.index.searchNextInitial (this.getSelectedPosition (), forward));
+    }
+
+
+    /**
+     * Get the absolute position of the selected item.
+     *
+     * @return The position or -1 if the selected item is not on the visible page
+     */
+    public int getSelectedPosition ()
+    {
+        final int cursorIndex = this.visibleBank.cursorIndex ().get ();
+        return cursorIndex < 0 ? -1 : this.visibleBank.scrollPosition ().get () + cursorIndex;
+    }
+
+
+    /**
+     * Scroll the visible bank to the page which contains the item and select it.
+     *
+     * @param position The absolute position of the item
+     * @return True if the position is valid
+     */
+    private boolean selectPosition (final int position)
+    {
+        if (position < 0)
+            return false;
+        final int pageSize = this.visibleBank.getSizeOfBank ();
+        final int pageStart = position / pageSize * pageSize;
+        this.visibleBank.scrollPosition ().set (pageStart);
+        this.visibleBank.cursorIndex ().set (position - pageStart);
+        return true;
+    }
+
+
+    /**
+     * Read the names of the current page and scroll to the next one.
+     *
+     * @param crawlGeneration The generation of the crawl, outdated crawls are stopped
+     */
+    private void crawl (final int crawlGeneration)
+    {
+        if (crawlGeneration != this.generation)
+            return;
+
+        // Wait until the host has scrolled the bank. The position might never be reached, e.g. if
+        // the list has shrunk, in that case the crawl is restarted by the item count observer
+        if (this.crawlBank.scrollPosition ().get () != this.position)
+        {
+            this.retries++;
+            if (this.retries > MAX_RETRIES)
+                return;
+            this.crawlBank.scrollPosition ().set (this.position);
+            this.host.scheduleTask ( () -> this.crawl (crawlGeneration), STEP_DELAY);
+            return;
+        }
+        this.retries = 0;
+
+        // The names of the page are sent after the position, wait one more step for them
+        if (!this.isPageSettled)
+        {
+            this.isPageSettled = true;
+            this.host.scheduleTask ( () -> this.crawl (crawlGeneration), STEP_DELAY);
+            return;
+        }
+        this.isPageSettled = false;
+
+        final int size = this.index.getSize ();
+        for (int i = 0; i < PAGE_SIZE && this.position + i < size; i++)
+            this.index.set (this.position + i, this.crawlBank.getItemAt (i).name ().get ());
+
+        this.position += PAGE_SIZE;
+        if (this.position >= size)
+        {
+            this.index.setComplete ();
+            return;
+        }
+
+        this.crawlBank.scrollPosition ().set (this.position);
+        this.host.scheduleTask ( () -> this.crawl (crawlGeneration), STEP_DELAY);
+    }
+
+
+    private void setSubscribed (final boolean enable)
+    {
+        Util.setIsSubscribed (this.crawlBank.scrollPosition (), enable);
+        Util.setIsSubscribed (this.crawlBank.itemCount (), enable);
+        for (int i = 0; i < PAGE_SIZE; i++)
+            Util.setIsSubscribed (this.crawlBank.getItemAt (i).name (), enable);
+    }
+}
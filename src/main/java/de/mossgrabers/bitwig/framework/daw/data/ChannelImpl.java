@@ -331,6 +331,15 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        final SettableColorValue color = this.deviceChain.color ();
+        return ColorEx.toARGB (color.red (), color.green (), color.blue ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setColor (final ColorEx color)
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.extension;
 
 import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.utils.StartupReport;
 
 import com.bitwig.extension.controller.ControllerExtension;
 import com.bitwig.extension.controller.ControllerExtensionDefinition;
@@ -18,7 +19,12 @@ import com.bitwig.extension.controller.api.ControllerHost;
  */
 public class GenericControllerExtension extends ControllerExtension
 {
+    /** The minimum time in milliseconds to wait for the DAW to send the initial state. */
+    private static final int       STARTUP_DELAY = 1000;
+
     private IControllerSetup<?, ?> setup;
+    private boolean                isReady;
+    private boolean                isStarted;
 
 
     /**
@@ -40,11 +46,14 @@ public class GenericControllerExtension extends ControllerExtension
     public void init ()
     {
         this.setup.init ();
+
+        // The first flush does not guarantee that all settings and values have already been
+        // received, therefore wait at least as long as before but start directly on the next flush
         final ControllerHost host = this.getHost ();
         host.scheduleTask ( () -> {
-            this.setup.startup ();
-            host.println ("Running.");
-        }, 1000);
+            this.isReady = true;
+            host.requestFlush ();
+        }, STARTUP_DELAY);
     }
 
 
@@ -60,6 +69,16 @@ public class GenericControllerExtension extends ControllerExtension
     @Override
     public void flush ()
     {
+        if (this.isReady && !this.isStarted)
+        {
+            this.isStarted = true;
+            final StartupReport report = this.setup.getStartupReport ();
+            report.phase ("waiting for the DAW");
+            this.setup.startup ();
+            report.phase ("startup");
+            this.getHost ().println ("Running. " + report);
+        }
+
         this.setup.flush ();
     }
 }
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.graphics.IImage;
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
+import com.bitwig.extension.api.graphics.GraphicsOutput.Operator;
 
 
 /**
@@ -58,6 +59,17 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void clearRectangle (final double left, final double top, final double width, final double height)
+    {
+        this.gc.setOperator (Operator.CLEAR);
+        this.gc.rectangle (left, top, Math.max (0, width), Math.max (0, height));
+        this.gc.fill ();
+        this.gc.setOperator (Operator.OVER);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
@@ -233,7 +245,10 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public void drawImage (final IImage icon, final double x, final double y)
     {
-        this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
+        if (icon instanceof BitmapImpl)
+            this.gc.drawImage (((BitmapImpl) icon).getBitmap (), x, y);
+        else
+            this.gc.drawImage (((ImageImpl) icon).getImage (), x, y);
     }
 
 
@@ -22,6 +22,7 @@ public class EncodedColorLightState extends InternalHardwareLightState
 {
     private final int                  encodedColorState;
     private final IntFunction<ColorEx> stateToColorFunction;
+    private HardwareLightVisualState   visualState;
 
 
     /**
@@ -41,6 +42,15 @@ public class EncodedColorLightState extends InternalHardwareLightState
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        // States are re-used by the light state cache, therefore create the visual state only once
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         if (this.encodedColorState == -1)
             return HardwareLightVisualState.createForColor (Color.blackColor (), Color.whiteColor ());
@@ -50,17 +60,15 @@ public class EncodedColorLightState extends InternalHardwareLightState
         final boolean blinkFast = (this.encodedColorState >> 16 & 1) > 0;
 
         final ColorEx colorEx = this.stateToColorFunction.apply (colorIndex);
-        final Color color = Color.fromRGB (colorEx.getRed (), colorEx.getGreen (), colorEx.getBlue ());
-        final ColorEx contrastColorEx = ColorEx.calcContrastColor (colorEx);
-        final Color contrastColor = Color.fromRGB (contrastColorEx.getRed (), contrastColorEx.getGreen (), contrastColorEx.getBlue ());
+        final Color color = HwUtils.toColor (colorEx);
+        final Color contrastColor = HwUtils.getContrastColor (colorEx);
 
         if (blinkColorIndex <= 0 || blinkColorIndex >= 128)
             return HardwareLightVisualState.createForColor (color, contrastColor);
 
         final ColorEx blinkColorEx = this.stateToColorFunction.apply (blinkColorIndex);
-        final Color blinkColor = Color.fromRGB (blinkColorEx.getRed (), blinkColorEx.getGreen (), blinkColorEx.getBlue ());
-        final ColorEx contrastBlinkColorEx = ColorEx.calcContrastColor (blinkColorEx);
-        final Color contrastBlinkColor = Color.fromRGB (contrastBlinkColorEx.getRed (), contrastBlinkColorEx.getGreen (), contrastBlinkColorEx.getBlue ());
+        final Color blinkColor = HwUtils.toColor (blinkColorEx);
+        final Color contrastBlinkColor = HwUtils.getContrastColor (blinkColorEx);
 
         final double blinkTimeInSec = blinkFast ? 0.5 : 1;
         return HardwareLightVisualState.createBlinking (blinkColor, color, contrastBlinkColor, contrastColor, blinkTimeInSec, blinkTimeInSec);
@@ -82,7 +82,8 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final LightStateCache<RawColorLightState> stateCache = new LightStateCache<> (encodedColor -> new RawColorLightState (ColorEx.decode (encodedColor)));
+        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> stateCache.get (supplier.get ().encode ());
         final Consumer<? extends InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -101,7 +102,8 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final LightStateCache<EncodedColorLightState> stateCache = new LightStateCache<> (encodedColorState -> new EncodedColorLightState (encodedColorState, stateToColorFunction));
+        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> stateCache.get (supplier.getAsInt ());
         final Consumer<? extends InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
@@ -6,7 +6,9 @@ package de.mossgrabers.bitwig.framework.hardware;
 
 import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
+import de.mossgrabers.framework.controller.color.ColorEx;
 
+import com.bitwig.extension.api.Color;
 import com.bitwig.extension.controller.api.ContinuousHardwareControl;
 import com.bitwig.extension.controller.api.DoubleValue;
 import com.bitwig.extension.controller.api.StringValue;
@@ -19,6 +21,35 @@ import com.bitwig.extension.controller.api.StringValue;
  */
 public class HwUtils
 {
+    /** The contrast colors are only black or white, therefore they are created only once. */
+    private static final Color CONTRAST_BLACK = Color.blackColor ();
+    private static final Color CONTRAST_WHITE = Color.whiteColor ();
+
+
+    /**
+     * Convert a color to a Bitwig color.
+     *
+     * @param color The color
+     * @return The Bitwig color
+     */
+    public static Color toColor (final ColorEx color)
+    {
+        return Color.fromRGB (color.getRed (), color.getGreen (), color.getBlue ());
+    }
+
+
+    /**
+     * Get the Bitwig color to use for text on top of the given color.
+     *
+     * @param color The background color
+     * @return Black or white
+     */
+    public static Color getContrastColor (final ColorEx color)
+    {
+        return ColorEx.calcContrastColor (color) == ColorEx.BLACK ? CONTRAST_BLACK : CONTRAST_WHITE;
+    }
+
+
     /**
      * Mark all target value parameters of a continuous hardware control.
      *
@@ -0,0 +1,74 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * Canonicalizes the states of one light by their encoded value. The states of the last used values
+ * are kept, therefore an unchanged light (or one which toggles between a few states) returns the
+ * identical instance on each poll. This avoids creating a new state object for every light on
+ * every flush and the comparison with the previous state is reduced to an identity check.
+ *
+ * @param <S> The type of the light state
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class LightStateCache<S extends InternalHardwareLightState>
+{
+    private static final int     SIZE   = 8;
+
+    private final IntFunction<S> stateFactory;
+    private final int []         keys   = new int [SIZE];
+    private final Object []      states = new Object [SIZE];
+    private int                  last;
+    private int                  next;
+
+
+    /**
+     * Constructor.
+     *
+     * @param stateFactory Creates a new state for an encoded value which is not in the cache
+     */
+    LightStateCache (final IntFunction<S> stateFactory)
+    {
+        this.stateFactory = stateFactory;
+    }
+
+
+    /**
+     * Get the state for an encoded value.
+     *
+     * @param key The encoded value
+     * @return The cached state or a new one if the value is not cached
+     */
+    @SuppressWarnings("unchecked")
+    S get (final int key)
+    {
+        // Most likely the light has not changed
+        if (this.states[this.last] != null && this.keys[this.last] == key)
+            return (S) this.states[this.last];
+
+        for (int i = 0; i < SIZE; i++)
+        {
+            if (this.states[i] != null && this.keys[i] == key)
+            {
+                this.last = i;
+                return (S) this.states[i];
+            }
+        }
+
+        // Replace the oldest entry
+        final S state = this.stateFactory.apply (key);
+        this.keys[this.next] = key;
+        this.states[this.next] = state;
+        this.last = this.next;
+        this.next = (this.next + 1) % SIZE;
+        return state;
+    }
+}
@@ -6,7 +6,6 @@ package de.mossgrabers.bitwig.framework.hardware;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 
-import com.bitwig.extension.api.Color;
 import com.bitwig.extension.controller.api.HardwareLightVisualState;
 import com.bitwig.extension.controller.api.InternalHardwareLightState;
 
@@ -18,7 +17,9 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
  */
 public class RawColorLightState extends InternalHardwareLightState
 {
-    private final ColorEx colorState;
+    private final ColorEx            colorState;
+    private final int                encodedColor;
+    private HardwareLightVisualState visualState;
 
 
     /**
@@ -29,6 +30,7 @@ public class RawColorLightState extends InternalHardwareLightState
     public RawColorLightState (final ColorEx colorState)
     {
         this.colorState = colorState;
+        this.encodedColor = colorState.encode ();
     }
 
 
@@ -36,10 +38,10 @@ public class RawColorLightState extends InternalHardwareLightState
     @Override
     public HardwareLightVisualState getVisualState ()
     {
-        final Color color = Color.fromRGB (this.colorState.getRed (), this.colorState.getGreen (), this.colorState.getBlue ());
-        final ColorEx contrastColorEx = ColorEx.calcContrastColor (this.colorState);
-        final Color contrastColor = Color.fromRGB (contrastColorEx.getRed (), contrastColorEx.getGreen (), contrastColorEx.getBlue ());
-        return HardwareLightVisualState.createForColor (color, contrastColor);
+        // States are re-used by the light state cache, therefore create the visual state only once
+        if (this.visualState == null)
+            this.visualState = HardwareLightVisualState.createForColor (HwUtils.toColor (this.colorState), HwUtils.getContrastColor (this.colorState));
+        return this.visualState;
     }
 
 
@@ -49,7 +51,7 @@ public class RawColorLightState extends InternalHardwareLightState
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + this.colorState.encode ();
+        result = prime * result + this.encodedColor;
         return result;
     }
 
@@ -65,6 +67,6 @@ public class RawColorLightState extends InternalHardwareLightState
         if (this.getClass () != obj.getClass ())
             return false;
         final RawColorLightState other = (RawColorLightState) obj;
-        return this.colorState.encode () == other.colorState.encode ();
+        return this.encodedColor == other.encodedColor;
     }
 }
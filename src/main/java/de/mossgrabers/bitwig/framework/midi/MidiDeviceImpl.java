@@ -4,12 +4,11 @@
 
 package de.mossgrabers.bitwig.framework.midi;
 
+import de.mossgrabers.bitwig.framework.daw.HostImpl;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import com.bitwig.extension.controller.api.ControllerHost;
-
 
 /**
  * Bitwig implementation to access MIDI input and outputs.
@@ -18,15 +17,15 @@ import com.bitwig.extension.controller.api.ControllerHost;
  */
 public class MidiDeviceImpl implements IMidiAccess
 {
-    private ControllerHost host;
+    private HostImpl host;
 
 
     /**
      * Constructor.
      *
-     * @param host The Bitwig host
+     * @param host The host
      */
-    public MidiDeviceImpl (final ControllerHost host)
+    public MidiDeviceImpl (final HostImpl host)
     {
         this.host = host;
     }
@@ -60,6 +59,6 @@ public class MidiDeviceImpl implements IMidiAccess
     @Override
     public IMidiInput createInput (final int index, final String name, final String... filters)
     {
-        return new MidiInputImpl (index, this.host, name, filters);
+        return new MidiInputImpl (index, this.host.getControllerHost (), name, filters);
     }
 }
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiInputRecorder;
 import de.mossgrabers.framework.daw.midi.MidiShortCallback;
 import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
 
@@ -40,8 +41,9 @@ import com.bitwig.extension.controller.api.RelativeHardwareValueMatcher;
  */
 public class MidiInputImpl implements IMidiInput
 {
-    private MidiIn        port;
-    private NoteInputImpl defaultNoteInput;
+    private MidiIn                  port;
+    private NoteInputImpl           defaultNoteInput;
+    private final MidiInputRecorder recorder = new MidiInputRecorder ();
 
 
     /**
@@ -77,7 +79,8 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setMidiCallback (final MidiShortCallback callback)
     {
-        this.port.setMidiCallback (callback::handleMidi);
+        this.recorder.setMidiCallback (callback);
+        this.port.setMidiCallback (this.recorder::handleMidi);
     }
 
 
@@ -85,7 +88,16 @@ public class MidiInputImpl implements IMidiInput
     @Override
     public void setSysexCallback (final MidiSysExCallback callback)
     {
-        this.port.setSysexCallback (callback::handleMidi);
+        this.recorder.setSysexCallback (callback);
+        this.port.setSysexCallback (this.recorder::handleSysex);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public MidiInputRecorder getRecorder ()
+    {
+        return this.recorder;
     }
 
 
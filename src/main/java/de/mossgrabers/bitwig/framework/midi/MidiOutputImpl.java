@@ -4,10 +4,10 @@
 
 package de.mossgrabers.bitwig.framework.midi;
 
+import de.mossgrabers.bitwig.framework.daw.HostImpl;
 import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
-import de.mossgrabers.framework.utils.ConsoleLogger;
+import de.mossgrabers.framework.utils.FlushProfiler;
 
-import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.MidiOut;
 
 
@@ -18,7 +18,9 @@ import com.bitwig.extension.controller.api.MidiOut;
  */
 class MidiOutputImpl extends AbstractMidiOutputImpl
 {
-    private MidiOut port;
+    private MidiOut             port;
+    private final FlushProfiler profiler;
+    private final String        portName;
 
 
     /**
@@ -26,7 +28,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
      *
      * @param host The host
      */
-    public MidiOutputImpl (final ControllerHost host)
+    public MidiOutputImpl (final HostImpl host)
     {
         this (host, 0);
     }
@@ -38,9 +40,11 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
      * @param host The host
      * @param portNumber The number of the midi output port
      */
-    public MidiOutputImpl (final ControllerHost host, final int portNumber)
+    public MidiOutputImpl (final HostImpl host, final int portNumber)
     {
-        this.port = host.getMidiOutPort (portNumber);
+        this.port = host.getControllerHost ().getMidiOutPort (portNumber);
+        this.profiler = host.getFlushProfiler ();
+        this.portName = "MIDI Out " + portNumber;
     }
 
 
@@ -48,8 +52,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final byte [] data)
     {
-        ConsoleLogger.log ("Bytes: " + data.length);
-
+        this.profiler.countMidi (this.portName, data.length);
         this.port.sendSysex (data);
     }
 
@@ -58,9 +61,8 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     public void sendSysex (final String data)
     {
-        int len = data.length ();
-        ConsoleLogger.log ("String: " + len + "(" + (len / 3) + ")");
-
+        // The data is formatted as hex bytes separated by spaces
+        this.profiler.countMidi (this.portName, (data.length () + 1) / 3);
         this.port.sendSysex (data);
     }
 
@@ -69,6 +71,7 @@ class MidiOutputImpl extends AbstractMidiOutputImpl
     @Override
     protected void sendMidiShort (final int status, final int data1, final int data2)
     {
+        this.profiler.countMidi (this.portName, 3);
         this.port.sendMidi (status, data1, data2);
     }
 }
\ No newline at end of file
@@ -4,32 +4,52 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlEncoder;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). Bundles are packed up to the MTU of an
+ * ethernet network and sent in bursts with a short pause in between, so that clients can keep up
+ * with large dumps. The pause is scheduled on the host, therefore the caller is never blocked.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private OscConnection connection;
+    /** The maximum UDP payload which fits into an ethernet frame without fragmentation. */
+    private static final int                            MAX_BUNDLE_SIZE   = 1472;
+    /** The number of bundles which are sent without a pause. */
+    private static final int                            BUNDLES_PER_BURST = 16;
+    /** The pause between two bursts in milliseconds. */
+    private static final int                            BURST_PAUSE       = 1;
+
+    private final IHost                                 host;
+    private final OscConnection                         connection;
+    private final Deque<List<IOpenSoundControlMessage>> queue             = new ArrayDeque<> ();
+    private boolean                                     isSending;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection)
     {
+        this.host = host;
         this.connection = connection;
     }
 
@@ -38,9 +58,11 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        // Keep the order if bundles are still waiting
+        if (this.queue.isEmpty ())
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
+        else
+            this.sendBundle (Collections.singletonList (message));
     }
 
 
@@ -48,33 +70,66 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
+        List<IOpenSoundControlMessage> bundle = new ArrayList<> ();
+        int size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
         for (final IOpenSoundControlMessage message: messages)
         {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
+            final int messageSize = OpenSoundControlEncoder.getBundleElementSize (message);
+            if (size + messageSize > MAX_BUNDLE_SIZE && !bundle.isEmpty ())
             {
-                pos = 0;
-                this.connection.endBundle ();
+                this.queue.add (bundle);
+                bundle = new ArrayList<> ();
+                size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+            }
+            bundle.add (message);
+            size += messageSize;
+        }
+        if (!bundle.isEmpty ())
+            this.queue.add (bundle);
+
+        if (!this.isSending)
+            this.sendQueuedBundles ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // The connection itself is closed by the host
+        this.queue.clear ();
+    }
+
 
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
-                {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
+    /**
+     * Send the next burst of queued bundles. If more bundles are waiting, the next burst is
+     * scheduled after a short pause.
+     */
+    private void sendQueuedBundles ()
+    {
+        this.isSending = false;
 
+        List<IOpenSoundControlMessage> bundle;
+        int count = 0;
+        while (count < BUNDLES_PER_BURST && (bundle = this.queue.poll ()) != null)
+        {
+            count++;
+            try
+            {
                 this.connection.startBundle ();
+                for (final IOpenSoundControlMessage message: bundle)
+                    this.connection.sendMessage (message.getAddress (), message.getValues ());
+                this.connection.endBundle ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send OSC bundle.", ex);
             }
         }
-        this.connection.endBundle ();
+
+        if (this.queue.isEmpty ())
+            return;
+        this.isSending = true;
+        this.host.scheduleTask (this::sendQueuedBundles, BURST_PAUSE);
     }
 }
@@ -84,7 +84,7 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
     @Override
     protected String getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColorARGB ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
     }
 
 
@@ -54,7 +54,7 @@ public class AutoColorSetup extends AbstractControllerSetup<IControlSurface<Auto
     @Override
     public void flush ()
     {
-        // Intentionally empty
+        this.configuration.notifySettingObservers ();
     }
 
 
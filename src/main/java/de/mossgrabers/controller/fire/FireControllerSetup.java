@@ -122,6 +122,8 @@ public class FireControllerSetup extends AbstractControllerSetup<FireControlSurf
         ms.setNumFilterColumnEntries (3);
         ms.setNumResults (3);
         ms.setHasFullFlatTrackList (true);
+        // For the birds eye view: the first 4x4 pages
+        ms.setOverviewSize (64, 16);
 
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
 
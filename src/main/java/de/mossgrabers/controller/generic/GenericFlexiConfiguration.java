@@ -430,8 +430,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
-        this.sendValueWhenReceivedSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.notifyObservers (SLOT_CHANGE);
+        });
+        this.sendValueWhenReceivedSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValueWhenReceived (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.notifyObservers (SLOT_CHANGE);
+        });
 
         ///////////////////////////////////////////////
         // Keyboard / Pads
@@ -460,6 +466,12 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.activateNoteRepeatSetting (documentSettings);
 
+        ///////////////////////////////////////////////
+        // Debug
+
+        this.activateFlushProfilerSetting (globalSettings);
+        this.activateMidiCaptureSetting (globalSettings);
+
         this.slotSelectionSetting.addValueObserver (this::selectSlot);
     }
 
@@ -487,6 +499,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
+        // Slots without a command do not block notes and do not send values
+        this.clearNoteMap ();
 
         final CommandCategory oldCategory = oldCommand.getCategory ();
         if (oldCategory != null && oldCategory != newCommand.getCategory ())
@@ -33,6 +33,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.io.File;
 import java.io.IOException;
@@ -53,8 +54,17 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
     private final IModel                                  model;
     private final int []                                  valueCache            = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final TimerWheel.Timeout []                   valueCacheTimeouts    = new TimerWheel.Timeout [GenericFlexiConfiguration.NUM_SLOTS];
     private final Map<FlexiCommand, IFlexiCommandHandler> handlers              = new EnumMap<> (FlexiCommand.class);
 
+    /** The indices of the slots which send their value back to the device. */
+    private final int []                                  feedbackSlots         = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int                                           numFeedbackSlots      = 0;
+    /** Values of the commands retrieved in the current flush, several slots can share a command. */
+    private final int []                                  commandValues         = new int [FlexiCommand.values ().length];
+    private final int []                                  commandValueFlushes   = new int [FlexiCommand.values ().length];
+    private int                                           flushCount            = 0;
+
     private boolean                                       isShiftPressed        = false;
     private boolean                                       isUpdatingValue       = false;
 
@@ -92,11 +102,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.registerHandler (new UserHandler (model, this, configuration, this.relative2ValueChanger, this.relative3ValueChanger));
 
         Arrays.fill (this.valueCache, -1);
+        for (int i = 0; i < this.valueCacheTimeouts.length; i++)
+        {
+            final int slotIndex = i;
+            this.valueCacheTimeouts[i] = host.getTimerWheel ().createTimeout ( () -> this.updateValueCache (slotIndex));
+        }
 
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_EXPORT, this::exportFile);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_IMPORT, () -> this.importFile (true));
 
         this.input.setSysexCallback (this::handleSysEx);
+
+        this.updateFeedbackSlots ();
     }
 
 
@@ -104,22 +121,47 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     @Override
     public void flush ()
     {
+        if (this.numFeedbackSlots == 0)
+            return;
+
+        // The model does not offer change events for the values reflected by the commands (e.g.
+        // parameter values or track states), therefore only the configured feedback slots are
+        // compared against their last sent value
+        this.flushCount++;
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        for (int i = 0; i < this.numFeedbackSlots; i++)
         {
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            final int slotIndex = this.feedbackSlots[i];
+            final CommandSlot slot = slots[slotIndex];
+            final FlexiCommand command = slot.getCommand ();
+            if (this.isUpdatingValue && !(command.isTrigger () && slot.isSendValueWhenReceived ()))
                 continue;
 
-            if (this.isUpdatingValue && !(slots[i].getCommand ().isTrigger () && slots[i].isSendValueWhenReceived ()))
+            final int value = this.getFlushCommandValue (command);
+            if (this.valueCache[slotIndex] == value)
                 continue;
+            this.valueCache[slotIndex] = value;
+            this.reflectValue (slot, value);
+        }
+    }
 
-            final int value = this.getCommandValue (command);
-            if (this.valueCache[i] == value)
-                continue;
-            this.valueCache[i] = value;
-            this.reflectValue (slots[i], value);
+
+    /**
+     * Update the list of slots which send their value back to the device. Needs to be called when
+     * the configuration of a slot changes. All values are sent again.
+     */
+    public void updateFeedbackSlots ()
+    {
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        int count = 0;
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i].getCommand () != FlexiCommand.OFF && slots[i].isSendValue ())
+                this.feedbackSlots[count++] = i;
         }
+        this.numFeedbackSlots = count;
+        Arrays.fill (this.valueCache, -1);
     }
 
 
@@ -357,6 +399,25 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get the current value of a command. The value is retrieved only once per flush even if the
+     * command is assigned to several slots.
+     *
+     * @param command The command
+     * @return The value or -1
+     */
+    private int getFlushCommandValue (final FlexiCommand command)
+    {
+        final int index = command.ordinal ();
+        if (this.commandValueFlushes[index] != this.flushCount)
+        {
+            this.commandValueFlushes[index] = this.flushCount;
+            this.commandValues[index] = this.getCommandValue (command);
+        }
+        return this.commandValues[index];
+    }
+
+
     /**
      * Handle a command.
      *
@@ -376,10 +437,21 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.isUpdatingValue = true;
         this.handlers.get (command).handle (command, commandSlot.getKnobMode (), value);
 
-        this.host.scheduleTask ( () -> {
+        this.valueCacheTimeouts[slotIndex].schedule (400);
+    }
+
+
+    /**
+     * Update the cached value of a slot after the DAW had time to apply a received value.
+     *
+     * @param slotIndex The slot index where the command is stored
+     */
+    private void updateValueCache (final int slotIndex)
+    {
+        final FlexiCommand command = this.configuration.getCommandSlots ()[slotIndex].getCommand ();
+        if (command != FlexiCommand.OFF)
             this.valueCache[slotIndex] = this.getCommandValue (command);
-            this.isUpdatingValue = false;
-        }, 400);
+        this.isUpdatingValue = false;
     }
 
 
@@ -8,7 +8,6 @@ import de.mossgrabers.controller.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
-import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -72,25 +71,6 @@ public class Kontrol1Display extends AbstractTextDisplay
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay setBlock (final int row, final int block, final String value)
-    {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (9), 8);
-        }
-        else
-        {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
-        return this;
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
@@ -83,7 +83,7 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
             return AbstractDrumView.COLOR_PAD_MUTED;
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return DAWColor.getColorIndex (drumPad.getColorARGB ());
     }
 
 
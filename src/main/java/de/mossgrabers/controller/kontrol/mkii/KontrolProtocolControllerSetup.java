@@ -110,9 +110,12 @@ public class KontrolProtocolControllerSetup extends AbstractControllerSetup<Kont
     @Override
     public void flush ()
     {
-        // Do not flush until handshake has finished
+        // Do not flush until handshake has finished but do not block the settings
         if (!this.getSurface ().isConnectedToNIHIA ())
+        {
+            this.configuration.notifySettingObservers ();
             return;
+        }
 
         final KontrolProtocolControlSurface surface = this.getSurface ();
         final String kompleteInstanceNew = this.getKompleteInstance ();
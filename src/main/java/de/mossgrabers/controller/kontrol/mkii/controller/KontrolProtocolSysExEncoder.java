@@ -0,0 +1,151 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mkii.controller;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Encodes the track state SysEx messages of the NIHIA protocol directly into bytes. Keeps a shadow
+ * of the last sent message of each track and state. A message is only returned for sending if it
+ * differs from the one sent before. Not thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class KontrolProtocolSysExEncoder
+{
+    private static final byte [] HEADER     =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x21,
+        0x09,
+        0x00,
+        0x00,
+        0x44,
+        0x43,
+        0x01,
+        0x00
+    };
+
+    private static final int     NUM_TRACKS = 8;
+    private static final int     NUM_STATES = 128;
+
+    private final byte [] [] []  shadow     = new byte [NUM_TRACKS] [NUM_STATES] [];
+    private byte []              buffer     = new byte [128];
+    private int                  length;
+
+
+    /**
+     * Constructor.
+     */
+    KontrolProtocolSysExEncoder ()
+    {
+        System.arraycopy (HEADER, 0, this.buffer, 0, HEADER.length);
+    }
+
+
+    /**
+     * Encode a message with a text. Umlauts are replaced, see StringUtils.fixASCII.
+     *
+     * @param stateID The state ID (command)
+     * @param value The value to send
+     * @param track The track index (0-7)
+     * @param info The text
+     * @return The message to send or null if it is identical to the last sent one
+     */
+    byte [] encode (final int stateID, final int value, final int track, final String info)
+    {
+        final String text = isASCII (info) ? info : StringUtils.fixASCII (info);
+
+        this.start (stateID, value, track, text.length ());
+        for (int i = 0; i < text.length (); i++)
+            this.buffer[this.length++] = (byte) text.charAt (i);
+        return this.finish (stateID, track);
+    }
+
+
+    /**
+     * Encode a message with further data bytes.
+     *
+     * @param stateID The state ID (command)
+     * @param value The value to send
+     * @param track The track index (0-7)
+     * @param info Further info data
+     * @return The message to send or null if it is identical to the last sent one
+     */
+    byte [] encode (final int stateID, final int value, final int track, final int [] info)
+    {
+        this.start (stateID, value, track, info.length);
+        for (final int data: info)
+            this.buffer[this.length++] = (byte) data;
+        return this.finish (stateID, track);
+    }
+
+
+    /**
+     * Forget all sent messages. Afterwards all messages are sent again.
+     */
+    void clear ()
+    {
+        for (final byte [] [] states: this.shadow)
+            Arrays.fill (states, null);
+    }
+
+
+    private void start (final int stateID, final int value, final int track, final int infoLength)
+    {
+        // Header + state, value, track + info + end
+        final int size = HEADER.length + 3 + infoLength + 1;
+        if (this.buffer.length < size)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (size, 2 * this.buffer.length));
+
+        this.length = HEADER.length;
+        this.buffer[this.length++] = (byte) stateID;
+        this.buffer[this.length++] = (byte) value;
+        this.buffer[this.length++] = (byte) track;
+    }
+
+
+    private byte [] finish (final int stateID, final int track)
+    {
+        this.buffer[this.length++] = (byte) 0xF7;
+
+        final boolean isCached = track >= 0 && track < NUM_TRACKS && stateID >= 0 && stateID < NUM_STATES;
+        if (isCached && this.isUnchanged (this.shadow[track][stateID]))
+            return null;
+
+        final byte [] message = Arrays.copyOf (this.buffer, this.length);
+        if (isCached)
+            this.shadow[track][stateID] = message;
+        return message;
+    }
+
+
+    private boolean isUnchanged (final byte [] sent)
+    {
+        if (sent == null || sent.length != this.length)
+            return false;
+        for (int i = HEADER.length; i < this.length; i++)
+        {
+            if (sent[i] != this.buffer[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    private static boolean isASCII (final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            if (text.charAt (i) > 127)
+                return false;
+        }
+        return true;
+    }
+}
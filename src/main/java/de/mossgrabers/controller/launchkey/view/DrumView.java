@@ -138,7 +138,7 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
         if (!drumPad.doesExist () || !drumPad.isActivated ())
             return LaunchkeyMiniMk3ColorManager.LAUNCHKEY_COLOR_BLACK;
 
-        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColorARGB ()));
     }
 
 
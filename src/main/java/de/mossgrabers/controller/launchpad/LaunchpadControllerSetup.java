@@ -165,6 +165,8 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     {
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFullFlatTrackList (this.configuration.areMasterTracksIncluded ());
+        // For the birds eye view: the first 4x4 pages
+        ms.setOverviewSize (32, 32);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.addSelectionObserver ( (index, isSelected) -> this.handleTrackChange (isSelected));
@@ -57,14 +57,7 @@ public class MCUDisplay extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int column, final String value)
     {
-        try
-        {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
-        {
-            this.host.error ("Display array index out of bounds.", ex);
-        }
+        this.writeCell (row, column, value, this.charactersOfCell - 1);
         return this;
     }
 
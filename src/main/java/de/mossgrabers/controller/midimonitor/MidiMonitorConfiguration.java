@@ -20,8 +20,16 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
 {
     /** Setting for filtering system realtime. */
     public static final Integer FILTER_SYSTEM_REALTIME   = Integer.valueOf (50);
+    /** Setting for filtering aftertouch. */
+    public static final Integer FILTER_AFTERTOUCH        = Integer.valueOf (51);
+    /** Setting for printing the event rates. */
+    public static final Integer PRINT_STATISTICS         = Integer.valueOf (52);
+    /** Export the captured events. */
+    public static final Integer EXPORT_CAPTURE           = Integer.valueOf (53);
 
     private boolean             isFilterSystemRealtimeOn = false;
+    private boolean             isFilterAftertouchOn     = false;
+    private boolean             isPrintStatisticsOn      = false;
 
 
     /**
@@ -45,6 +53,20 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
             this.isFilterSystemRealtimeOn = "On".equals (value);
             this.notifyObservers (FILTER_SYSTEM_REALTIME);
         });
+
+        final IEnumSetting filterAftertouchSetting = globalSettings.getEnumSetting ("Aftertouch", "Filter", ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        filterAftertouchSetting.addValueObserver (value -> {
+            this.isFilterAftertouchOn = "On".equals (value);
+            this.notifyObservers (FILTER_AFTERTOUCH);
+        });
+
+        final IEnumSetting printStatisticsSetting = globalSettings.getEnumSetting ("Print event rates", "Statistics", ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        printStatisticsSetting.addValueObserver (value -> {
+            this.isPrintStatisticsOn = "On".equals (value);
+            this.notifyObservers (PRINT_STATISTICS);
+        });
+
+        globalSettings.getSignalSetting ("Last events", "Capture", "Export").addValueObserver (value -> this.notifyObservers (EXPORT_CAPTURE));
     }
 
 
@@ -57,4 +79,26 @@ public class MidiMonitorConfiguration extends AbstractConfiguration
     {
         return this.isFilterSystemRealtimeOn;
     }
+
+
+    /**
+     * Is the filter for polyphonic and channel aftertouch events enabled?
+     *
+     * @return True if the filter for aftertouch events is enabled
+     */
+    public boolean isFilterAftertouchEnabled ()
+    {
+        return this.isFilterAftertouchOn;
+    }
+
+
+    /**
+     * Should the rates of the event types be printed?
+     *
+     * @return True if enabled
+     */
+    public boolean isPrintStatisticsEnabled ()
+    {
+        return this.isPrintStatisticsOn;
+    }
 }
@@ -42,7 +42,7 @@ public class MidiMonitorSetup extends AbstractControllerSetup<IControlSurface<Mi
     @Override
     public void flush ()
     {
-        // Intentionally empty
+        this.configuration.notifySettingObservers ();
     }
 
 
@@ -64,6 +64,14 @@ public class MidiMonitorSetup extends AbstractControllerSetup<IControlSurface<Mi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void createObservers ()
+    {
+        this.configuration.addSettingObserver (MidiMonitorConfiguration.EXPORT_CAPTURE, () -> ((MidiMonitorControlSurface) this.getSurface ()).exportCapture ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.midimonitor.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A fixed size ring buffer for raw MIDI events and their time stamps. Adding an event never blocks
+ * and never allocates, if the buffer is full the oldest event is overwritten. There must only be
+ * one thread which adds events. Readers use their own read position and must check with
+ * getOldestIndex if they fell behind.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class MidiEventRingBuffer
+{
+    /** The status byte used for system exclusive messages. */
+    static final int         SYSEX      = 0xF0;
+
+    private final int        mask;
+    private final long []    timestamps;
+    private final int []     messages;
+    private final String []  sysex;
+    private final AtomicLong writeIndex = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of events to keep, must be a power of 2
+     */
+    MidiEventRingBuffer (final int size)
+    {
+        if (Integer.bitCount (size) != 1)
+            throw new IllegalArgumentException ("Size must be a power of 2.");
+
+        this.mask = size - 1;
+        this.timestamps = new long [size];
+        this.messages = new int [size];
+        this.sysex = new String [size];
+    }
+
+
+    /**
+     * Add a short MIDI message.
+     *
+     * @param timestamp The time when the message was received in nanoseconds
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    void add (final long timestamp, final int status, final int data1, final int data2)
+    {
+        this.add (timestamp, status | data1 << 8 | data2 << 16, null);
+    }
+
+
+    /**
+     * Add a system exclusive message.
+     *
+     * @param timestamp The time when the message was received in nanoseconds
+     * @param data The data formatted as a hex string
+     */
+    void addSysex (final long timestamp, final String data)
+    {
+        this.add (timestamp, SYSEX, data);
+    }
+
+
+    /**
+     * Get the index after the latest event.
+     *
+     * @return The index
+     */
+    long getWriteIndex ()
+    {
+        return this.writeIndex.get ();
+    }
+
+
+    /**
+     * Get the index of the oldest event which is still available.
+     *
+     * @return The index
+     */
+    long getOldestIndex ()
+    {
+        return Math.max (0, this.writeIndex.get () - this.timestamps.length);
+    }
+
+
+    /**
+     * Get the time stamp of an event.
+     *
+     * @param index The index of the event
+     * @return The time stamp in nanoseconds
+     */
+    long getTimestamp (final long index)
+    {
+        return this.timestamps[(int) (index & this.mask)];
+    }
+
+
+    /**
+     * Get the status byte of an event.
+     *
+     * @param index The index of the event
+     * @return The status byte
+     */
+    int getStatus (final long index)
+    {
+        return this.messages[(int) (index & this.mask)] & 0xFF;
+    }
+
+
+    /**
+     * Get the first data byte of an event.
+     *
+     * @param index The index of the event
+     * @return The data byte
+     */
+    int getData1 (final long index)
+    {
+        return this.messages[(int) (index & this.mask)] >> 8 & 0xFF;
+    }
+
+
+    /**
+     * Get the second data byte of an event.
+     *
+     * @param index The index of the event
+     * @return The data byte
+     */
+    int getData2 (final long index)
+    {
+        return this.messages[(int) (index & this.mask)] >> 16 & 0xFF;
+    }
+
+
+    /**
+     * Get the data of a system exclusive event.
+     *
+     * @param index The index of the event
+     * @return The data formatted as a hex string or null if it is not a system exclusive event
+     */
+    String getSysex (final long index)
+    {
+        return this.sysex[(int) (index & this.mask)];
+    }
+
+
+    private void add (final long timestamp, final int message, final String data)
+    {
+        final long index = this.writeIndex.get ();
+        final int pos = (int) (index & this.mask);
+        this.timestamps[pos] = timestamp;
+        this.messages[pos] = message;
+        this.sysex[pos] = data;
+        // Publish the event after it is written completely
+        this.writeIndex.lazySet (index + 1);
+    }
+}
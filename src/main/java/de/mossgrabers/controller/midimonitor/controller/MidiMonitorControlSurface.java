@@ -11,6 +11,12 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
 
 /**
  * The Midi Monitor control surface.
@@ -19,7 +25,7 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonitorConfiguration>
 {
-    private static final String [] SPACES    =
+    private static final String []    SPACES           =
     {
         "",
         " ",
@@ -37,7 +43,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         "             "
     };
 
-    static final String []         CC_NAMES  =
+    static final String []            CC_NAMES         =
     {
         "Bank Select",
         "Modulation",
@@ -169,7 +175,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         "Poly Mode"
     };
 
-    static final String []         MMC_NAMES = new String [128];
+    static final String []            MMC_NAMES        = new String [128];
     static
     {
         MMC_NAMES[0x00] = "Reserved for extensions";
@@ -218,8 +224,31 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         }
     }
 
-    private boolean printHeader      = true;
-    private boolean printSysexHeader = true;
+    private static final String []    TYPE_NAMES       =
+    {
+        "Note Off",
+        "Note On",
+        "Poly Pressure",
+        "CC",
+        "Program Change",
+        "Channel Pressure",
+        "Pitchbend",
+        "System"
+    };
+
+    private static final char []      HEX_DIGITS       = "0123456789ABCDEF".toCharArray ();
+    private static final String       EXPORT_FILE      = "DrivenByMoss-MIDI-Monitor.txt";
+    /** Print the received events every 50ms. */
+    private static final int          PRINT_DELAY      = 50;
+    private static final long         SECOND           = 1000000000L;
+
+    private final MidiEventRingBuffer events           = new MidiEventRingBuffer (4096);
+    private final int []              typeCounts       = new int [TYPE_NAMES.length];
+    private long                      readIndex        = 0;
+    private long                      lastStatistics   = System.nanoTime ();
+    private boolean                   printHeader      = true;
+    private boolean                   printSysexHeader = true;
+    private boolean                   isPrintScheduled = false;
 
 
     /**
@@ -240,6 +269,148 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
     /** {@inheritDoc} */
     @Override
     protected void handleMidi (final int status, final int data1, final int data2)
+    {
+        // Only store the event, formatting and printing is done in batches, see printEvents
+        final int type = (status >> 4 & 0xF) - 8;
+        if (type < 0)
+        {
+            this.host.println ("Unhandled midi status: " + status);
+            return;
+        }
+        this.typeCounts[type]++;
+        this.schedulePrint ();
+
+        if (type == 7 && this.configuration.isFilterSystemRealtimeEnabled ())
+            return;
+        if ((type == 2 || type == 5) && this.configuration.isFilterAftertouchEnabled ())
+            return;
+
+        this.events.add (System.nanoTime (), status, data1, data2);
+    }
+
+
+    private void handleSysEx (final String dataStr)
+    {
+        this.typeCounts[TYPE_NAMES.length - 1]++;
+        this.events.addSysex (System.nanoTime (), dataStr);
+        this.schedulePrint ();
+    }
+
+
+    /**
+     * Start printing the events if it is not already running.
+     */
+    private void schedulePrint ()
+    {
+        if (this.isPrintScheduled)
+            return;
+        this.isPrintScheduled = true;
+        // All rates have been printed before stopping, start measuring again
+        this.lastStatistics = System.nanoTime ();
+        this.host.scheduleTask (this::printEvents, PRINT_DELAY);
+    }
+
+
+    /**
+     * Export the events in the ring buffer to a text file in the home folder of the user. Each line
+     * contains the time in milliseconds since the first event and the bytes of the event.
+     */
+    public void exportCapture ()
+    {
+        final long end = this.events.getWriteIndex ();
+        final long start = this.events.getOldestIndex ();
+        final File file = new File (System.getProperty ("user.home"), EXPORT_FILE);
+        try (final BufferedWriter writer = Files.newBufferedWriter (file.toPath ()))
+        {
+            final StringBuilder sb = new StringBuilder ();
+            final long startTime = this.events.getTimestamp (start);
+            for (long index = start; index < end; index++)
+            {
+                sb.setLength (0);
+                sb.append ((this.events.getTimestamp (index) - startTime) / 1000000L).append (' ');
+                final String sysex = this.events.getSysex (index);
+                if (sysex == null)
+                {
+                    appendHex (sb, this.events.getStatus (index)).append (' ');
+                    appendHex (sb, this.events.getData1 (index)).append (' ');
+                    appendHex (sb, this.events.getData2 (index));
+                }
+                else
+                    sb.append (sysex);
+                writer.write (sb.toString ());
+                writer.newLine ();
+            }
+            this.host.println ("Exported " + (end - start) + " MIDI events to " + file);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not export the MIDI events.", ex);
+        }
+    }
+
+
+    /**
+     * Format and print all events received since the last call as one batch. Prints the event rates
+     * once a second if enabled. Stops if there are no more events to print and the rates of all
+     * received events are printed, the next event starts it again.
+     */
+    private void printEvents ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+
+        final long end = this.events.getWriteIndex ();
+        final long oldest = this.events.getOldestIndex ();
+        if (this.readIndex < oldest)
+        {
+            sb.append ("| ... skipped ").append (oldest - this.readIndex).append (" events\n");
+            this.readIndex = oldest;
+        }
+        for (; this.readIndex < end; this.readIndex++)
+        {
+            final String sysex = this.events.getSysex (this.readIndex);
+            if (sysex == null)
+                this.formatMidi (sb, this.events.getStatus (this.readIndex), this.events.getData1 (this.readIndex), this.events.getData2 (this.readIndex));
+            else
+                this.formatSysEx (sb, sysex);
+        }
+
+        final long now = System.nanoTime ();
+        if (now - this.lastStatistics >= SECOND)
+        {
+            if (this.configuration.isPrintStatisticsEnabled ())
+                this.formatStatistics (sb, now - this.lastStatistics);
+            Arrays.fill (this.typeCounts, 0);
+            this.lastStatistics = now;
+        }
+
+        if (sb.length () > 0)
+        {
+            // Remove the last line break
+            sb.setLength (sb.length () - 1);
+            this.host.println (sb.toString ());
+        }
+
+        if (this.readIndex == this.events.getWriteIndex () && isEmpty (this.typeCounts))
+        {
+            this.isPrintScheduled = false;
+            return;
+        }
+        this.host.scheduleTask (this::printEvents, PRINT_DELAY);
+    }
+
+
+    private static boolean isEmpty (final int [] counts)
+    {
+        for (final int count: counts)
+        {
+            if (count > 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    private void formatMidi (final StringBuilder sb, final int status, final int data1, final int data2)
     {
         final int code = status & 0xF0;
         final int channel = status & 0xF;
@@ -248,103 +419,137 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
         {
             // Note off
             case 0x80:
-                this.log (status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, 0));
+                this.log (sb, status, data1, data2, channel, "Note Off " + Scales.formatNoteAndOctave (data1, 0));
                 break;
 
             // Note on
             case 0x90:
-                this.log (status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, 0));
+                this.log (sb, status, data1, data2, channel, "Note On  " + Scales.formatNoteAndOctave (data1, 0));
                 break;
 
             // Polyphonic Aftertouch
             case 0xA0:
-                this.log (status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, 0));
+                this.log (sb, status, data1, data2, channel, "Polyphonic Key Pressure " + Scales.formatNoteAndOctave (data1, 0));
                 break;
 
             // CC
             case 0xB0:
-                this.log (status, data1, data2, channel, "CC " + CC_NAMES[data1]);
+                this.log (sb, status, data1, data2, channel, "CC " + CC_NAMES[data1]);
                 break;
 
             // Program Change
             case 0xC0:
-                this.log (status, data1, data2, channel, "Program Change");
+                this.log (sb, status, data1, data2, channel, "Program Change");
                 break;
 
             // Channel Aftertouch
             case 0xD0:
-                this.log (status, data1, data2, channel, "Channel Pressure (Aftertouch)");
+                this.log (sb, status, data1, data2, channel, "Channel Pressure (Aftertouch)");
                 break;
 
             // Pitch Bend
             case 0xE0:
-                this.log (status, data1, data2, channel, "Pitchbend");
+                this.log (sb, status, data1, data2, channel, "Pitchbend");
                 break;
 
             // System Realtime - Active Sense
             case 0xF0:
-                if (!this.configuration.isFilterSystemRealtimeEnabled ())
-                {
-                    if (channel == 14)
-                        this.log (status, data1, data2, channel, "System Realtime - Active Sense");
-                    else
-                        this.log (status, data1, data2, channel, "System Realtime");
-                }
+                if (channel == 14)
+                    this.log (sb, status, data1, data2, channel, "System Realtime - Active Sense");
+                else
+                    this.log (sb, status, data1, data2, channel, "System Realtime");
                 break;
 
             default:
-                this.host.println ("Unhandled midi status: " + status);
+                // Not stored
                 break;
         }
     }
 
 
-    private void handleSysEx (final String dataStr)
+    private void formatSysEx (final StringBuilder sb, final String dataStr)
     {
         if (this.printSysexHeader)
         {
             this.printHeader = true;
             this.printSysexHeader = false;
-            this.host.println ("");
-            this.host.println ("| SYSEX");
-            this.host.println ("|-----------------------------------------------------------------------");
+            sb.append ("\n");
+            sb.append ("| SYSEX\n");
+            sb.append ("|-----------------------------------------------------------------------\n");
         }
 
         final int [] data = StringUtils.fromHexStr (dataStr);
-        StringBuilder sb = new StringBuilder ("| ");
+        int lineStart = sb.length ();
+        sb.append ("| ");
         for (int i = 0; i < data.length; i++)
         {
-            sb.append (String.format ("%02X", Integer.valueOf (data[i])));
+            appendHex (sb, data[i]);
 
             if (i != 0 && (i + 1) % 16 == 0)
             {
-                this.host.println (sb.toString ());
-                sb = new StringBuilder ("| ");
+                sb.append ('\n');
+                lineStart = sb.length ();
+                sb.append ("| ");
             }
             else
                 sb.append (' ');
         }
 
-        if (sb.length () > 2)
+        if (sb.length () - lineStart > 2)
         {
             if (data.length == 6 && data[0] == 0xF0 && data[1] == 0x7F && data[3] == 0x06 && data[5] == 0xF7)
                 sb.append (" - MMC ").append (MMC_NAMES[data[4]]);
-            this.host.println (sb.toString ());
+            sb.append ('\n');
+        }
+        else
+            sb.setLength (lineStart);
+    }
+
+
+    private void formatStatistics (final StringBuilder sb, final long duration)
+    {
+        final StringBuilder rates = new StringBuilder ();
+        for (int i = 0; i < TYPE_NAMES.length; i++)
+        {
+            final int count = this.typeCounts[i];
+            if (count == 0)
+                continue;
+            if (rates.length () > 0)
+                rates.append (", ");
+            rates.append (TYPE_NAMES[i]).append (' ').append (Math.round (count * (double) SECOND / duration));
         }
+        if (rates.length () > 0)
+            sb.append ("| Events per second: ").append (rates).append ('\n');
     }
 
 
-    private void log (final int status, final int data1, final int data2, final int channel, final String text)
+    private void log (final StringBuilder sb, final int status, final int data1, final int data2, final int channel, final String text)
     {
         if (this.printHeader)
         {
             this.printSysexHeader = true;
             this.printHeader = false;
-            this.host.println ("");
-            this.host.println ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT");
-            this.host.println ("|--------|--------|--------|------|-------------------------------------");
+            sb.append ("\n");
+            sb.append ("| STATUS | DATA 1 | DATA 2 | CHAN | EVENT\n");
+            sb.append ("|--------|--------|--------|------|-------------------------------------\n");
         }
-        this.host.println ("| " + padNumber (status, 2, true) + " " + padNumber (status, 3, false) + " | " + padNumber (data1, 2, true) + " " + padNumber (data1, 3, false) + " | " + padNumber (data2, 2, true) + " " + padNumber (data2, 3, false) + " | " + padNumber (channel + 1, 4, false) + " | " + text);
+        sb.append ("| ").append (padNumber (status, 2, true)).append (' ').append (padNumber (status, 3, false)).append (" | ");
+        sb.append (padNumber (data1, 2, true)).append (' ').append (padNumber (data1, 3, false)).append (" | ");
+        sb.append (padNumber (data2, 2, true)).append (' ').append (padNumber (data2, 3, false)).append (" | ");
+        sb.append (padNumber (channel + 1, 4, false)).append (" | ").append (text).append ('\n');
+    }
+
+
+    /**
+     * Append a byte formatted as a 2 digit hex number.
+     *
+     * @param sb Where to append the number
+     * @param number The number to format (0-255)
+     * @return The string builder
+     */
+    private static StringBuilder appendHex (final StringBuilder sb, final int number)
+    {
+        return sb.append (HEX_DIGITS[number >> 4 & 0xF]).append (HEX_DIGITS[number & 0xF]);
     }
 
 
@@ -358,7 +563,7 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
      */
     private static String padNumber (final int number, final int length, final boolean asHex)
     {
-        final String text = asHex ? String.format ("%02X", Integer.valueOf (number)) : Integer.toString (number);
+        final String text = asHex ? appendHex (new StringBuilder (2), number).toString () : Integer.toString (number);
         final int diff = length - text.length ();
         if (diff < 0)
             return text.substring (0, length);
@@ -366,4 +571,4 @@ public class MidiMonitorControlSurface extends AbstractControlSurface<MidiMonito
             return SPACES[diff] + text;
         return text;
     }
-}
\ No newline at end of file
+}
@@ -41,6 +41,18 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /** The transport for sending OSC messages. */
+    public enum SendTransport
+    {
+        /** UDP, sent by the DAW. */
+        HOST_UDP,
+        /** UDP, packets are packed up to the network MTU and paced. */
+        UDP,
+        /** TCP with SLIP framing (OSC 1.1), lossless. */
+        TCP
+    }
+
+
     private static final String    CATEGORY_PROTOCOL        = "Protocol (must match your client template!)";
 
     private static final String [] VALUE_RESOLUTION_OPTIONS =
@@ -50,9 +62,17 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] SEND_TRANSPORT_OPTIONS   =
+    {
+        "UDP (DAW)",
+        "UDP",
+        "TCP (SLIP)"
+    };
+
     private int                    receivePort              = 8000;
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
+    private SendTransport          sendTransport            = SendTransport.HOST_UDP;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
     private int                    bankPageSize             = 8;
 
@@ -89,6 +109,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IEnumSetting sendTransportSetting = globalSettings.getEnumSetting ("Transport to send with (requires restart)", CATEGORY_SETUP, SEND_TRANSPORT_OPTIONS, SEND_TRANSPORT_OPTIONS[0]);
+        this.sendTransport = SendTransport.values ()[Math.max (0, lookupIndex (SEND_TRANSPORT_OPTIONS, sendTransportSetting.get ()))];
+
         ///////////////////////////
         // Protocol
 
@@ -168,6 +191,17 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the transport for sending OSC messages.
+     *
+     * @return The transport
+     */
+    public SendTransport getSendTransport ()
+    {
+        return this.sendTransport;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
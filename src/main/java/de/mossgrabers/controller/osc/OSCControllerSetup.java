@@ -33,6 +33,7 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlSocketClient;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
@@ -51,6 +52,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     private OSCWriter               writer;
     private KeyManager              keyManager;
     private IOpenSoundControlServer oscServer;
+    private IOpenSoundControlClient oscClient;
 
 
     /**
@@ -75,6 +77,8 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        this.host.getTimerWheel ().tick ();
+        this.configuration.notifySettingObservers ();
         this.writer.flush (false);
     }
 
@@ -179,8 +183,19 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        switch (this.configuration.getSendTransport ())
+        {
+            case UDP:
+                this.oscClient = new OpenSoundControlSocketClient (this.host, sendHost, sendPort, OpenSoundControlSocketClient.Protocol.UDP);
+                break;
+            case TCP:
+                this.oscClient = new OpenSoundControlSocketClient (this.host, sendHost, sendPort, OpenSoundControlSocketClient.Protocol.TCP);
+                break;
+            default:
+                this.oscClient = this.host.connectToOSCServer (sendHost, sendPort);
+                break;
+        }
+        this.writer = new OSCWriter (this.host, this.model, this.oscClient, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -208,6 +223,17 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        super.exit ();
+
+        if (this.oscClient != null)
+            this.oscClient.close ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
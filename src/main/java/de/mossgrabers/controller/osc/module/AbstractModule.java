@@ -6,6 +6,7 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -43,6 +44,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final OSCAddressTrie trie)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
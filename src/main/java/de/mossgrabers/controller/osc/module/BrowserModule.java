@@ -105,6 +105,13 @@ public class BrowserModule extends AbstractModule
                     browser.selectPreviousFilterItem (column);
                 else if ("reset".equals (cmd))
                     browser.getFilterColumn (column).resetFilter ();
+                else if ("search".equals (cmd))
+                {
+                    if (path.isEmpty ())
+                        browser.getFilterColumn (column).searchItem (toString (value));
+                    else
+                        browser.getFilterColumn (column).searchNextItem ();
+                }
                 break;
 
             case "result":
@@ -113,6 +120,13 @@ public class BrowserModule extends AbstractModule
                 final String direction = path.isEmpty () ? "+" : path.removeFirst ();
                 if ("+".equals (direction))
                     browser.selectNextResult ();
+                else if ("search".equals (direction))
+                {
+                    if (path.isEmpty ())
+                        browser.searchResult (toString (value));
+                    else
+                        browser.searchNextResult ();
+                }
                 else
                     browser.selectPreviousResult ();
                 break;
@@ -159,6 +173,7 @@ public class BrowserModule extends AbstractModule
 
         // Presets
         final String presetAddress = browserAddress + "result/";
+        this.writer.sendOSC (presetAddress + "isIndexed", browser.isResultIndexComplete (), dump);
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
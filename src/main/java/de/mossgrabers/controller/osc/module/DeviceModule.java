@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
@@ -66,6 +67,15 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final OSCAddressTrie trie)
+    {
+        trie.register ("/device/param/{n}/value", (numbers, value) -> setParameterValue (this.model.getCursorDevice (), numbers[0], value));
+        trie.register ("/primary/param/{n}/value", (numbers, value) -> setParameterValue (this.model.getInstrumentDevice (), numbers[0], value));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
@@ -480,6 +490,24 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /**
+     * Set the value of a parameter of the current parameter page of a device.
+     *
+     * @param cursorDevice The device
+     * @param paramNo The number of the parameter (1-based) as used in the OSC address
+     * @param value The value
+     * @throws IllegalParameterException If the parameter does not exist or the value is not a
+     *             number
+     */
+    private static void setParameterValue (final ICursorDevice cursorDevice, final int paramNo, final Object value) throws IllegalParameterException
+    {
+        final IParameterBank parameterBank = cursorDevice.getParameterBank ();
+        if (paramNo < 1 || paramNo > parameterBank.getPageSize ())
+            throw new IllegalParameterException ("Parameter number out of range: " + paramNo);
+        parameterBank.getItem (paramNo - 1).setValue (toInteger (value));
+    }
+
+
     private static void parseFXParamValue (final ICursorDevice cursorDevice, final int fxparamIndex, final LinkedList<String> path, final Object value) throws MissingCommandException, IllegalParameterException, UnknownCommandException
     {
         final String command = getSubCommand (path);
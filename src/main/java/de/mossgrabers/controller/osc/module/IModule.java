@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 
 import java.util.LinkedList;
 
@@ -26,6 +27,15 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Register handlers for addresses which are received at a high rate (e.g. fader values). These
+     * are resolved directly without parsing the path. All other addresses are handed to execute.
+     *
+     * @param trie Where to register the address patterns
+     */
+    void registerHandlers (OSCAddressTrie trie);
+
+
     /**
      * Parse and execute an OSC command.
      *
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCAddressTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -67,6 +68,29 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final OSCAddressTrie trie)
+    {
+        trie.register ("/track/{n}/volume", (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        trie.register ("/track/{n}/pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        trie.register ("/track/{n}/send/{n}/volume", (numbers, value) -> setSendVolume (this.getTrack (numbers[0]), numbers[1], value));
+        trie.register ("/track/selected/volume", (numbers, value) -> {
+            final ITrack track = this.model.getCurrentTrackBank ().getSelectedItem ();
+            if (track != null)
+                track.setVolume (toInteger (value));
+        });
+        trie.register ("/track/selected/pan", (numbers, value) -> {
+            final ITrack track = this.model.getCurrentTrackBank ().getSelectedItem ();
+            if (track != null)
+                track.setPan (toInteger (value));
+        });
+        trie.register ("/master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        trie.register ("/master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+        trie.register ("/master/send/{n}/volume", (numbers, value) -> setSendVolume (this.model.getMasterTrack (), numbers[0], value));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
@@ -483,6 +507,41 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /**
+     * Get a track of the current track bank.
+     *
+     * @param trackNo The number of the track (1-based) as used in the OSC address
+     * @return The track
+     * @throws IllegalParameterException If there is no track with the number in the page
+     */
+    private ITrack getTrack (final int trackNo) throws IllegalParameterException
+    {
+        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        if (trackNo < 1 || trackNo > trackBank.getPageSize ())
+            throw new IllegalParameterException ("Track number out of range: " + trackNo);
+        return trackBank.getItem (trackNo - 1);
+    }
+
+
+    /**
+     * Set the volume of a send.
+     *
+     * @param track The track
+     * @param sendNo The number of the send (1-based) as used in the OSC address
+     * @param value The value
+     * @throws IllegalParameterException If the value is not a number
+     */
+    private static void setSendVolume (final ITrack track, final int sendNo, final Object value) throws IllegalParameterException
+    {
+        final ISendBank sendBank = track.getSendBank ();
+        if (sendNo < 1 || sendNo > sendBank.getPageSize ())
+            throw new IllegalParameterException ("Send number out of range: " + sendNo);
+        final ISend send = sendBank.getItem (sendNo - 1);
+        if (send != null)
+            send.setValue (toInteger (value));
+    }
+
+
     private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
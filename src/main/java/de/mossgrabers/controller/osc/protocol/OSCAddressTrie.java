@@ -0,0 +1,224 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.util.Arrays;
+
+
+/**
+ * A precompiled tree of OSC address patterns. Each segment of a pattern is either a fixed text,
+ * NUMBER which matches a positive decimal number (e.g. the index of a track) or WILDCARD which
+ * matches any segment. An address is resolved in one pass over its characters without creating
+ * intermediate strings; the numbers of the matched segments are handed to the handler.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCAddressTrie
+{
+    /** Segment pattern which matches a positive decimal number, e.g. a track index. */
+    public static final String NUMBER      = "{n}";
+    /** Segment pattern which matches any segment. */
+    public static final String WILDCARD    = "*";
+
+    private static final int   MAX_NUMBERS = 8;
+
+
+    /**
+     * Handles a matched OSC address.
+     */
+    @FunctionalInterface
+    public interface IHandler
+    {
+        /**
+         * Execute the command of the address.
+         *
+         * @param numbers The numbers of the NUMBER segments of the address in the order of their
+         *            appearance, only valid during the call
+         * @param value A value parameter for the command, may be null
+         * @throws IllegalParameterException Wrong or missing value parameter
+         * @throws UnknownCommandException Unknown command
+         * @throws MissingCommandException Missing sub-command
+         */
+        void handle (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+    }
+
+
+    /** A node of the tree, represents one segment of an address. */
+    private static class Node
+    {
+        private String [] segments = new String [0];
+        private Node []   children = new Node [0];
+        private Node      numberChild;
+        private Node      wildcardChild;
+        private IHandler  handler;
+
+
+        Node getOrCreateChild (final String segment)
+        {
+            if (NUMBER.equals (segment))
+            {
+                if (this.numberChild == null)
+                    this.numberChild = new Node ();
+                return this.numberChild;
+            }
+
+            if (WILDCARD.equals (segment))
+            {
+                if (this.wildcardChild == null)
+                    this.wildcardChild = new Node ();
+                return this.wildcardChild;
+            }
+
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                if (this.segments[i].equals (segment))
+                    return this.children[i];
+            }
+
+            final int length = this.segments.length;
+            this.segments = Arrays.copyOf (this.segments, length + 1);
+            this.children = Arrays.copyOf (this.children, length + 1);
+            this.segments[length] = segment;
+            this.children[length] = new Node ();
+            return this.children[length];
+        }
+    }
+
+
+    private final Node   root    = new Node ();
+    private final int [] numbers = new int [MAX_NUMBERS];
+
+
+    /**
+     * Register a handler for an address pattern, e.g. "/track/{n}/volume".
+     *
+     * @param pattern The address pattern, must start with a slash
+     * @param handler The handler to execute for matching addresses
+     */
+    public void register (final String pattern, final IHandler handler)
+    {
+        if (!pattern.startsWith ("/"))
+            throw new FrameworkException ("OSC address pattern must start with a slash: " + pattern);
+
+        final String [] segments = pattern.substring (1).split ("/");
+        int numberCount = 0;
+        Node node = this.root;
+        for (final String segment: segments)
+        {
+            if (NUMBER.equals (segment))
+                numberCount++;
+            node = node.getOrCreateChild (segment);
+        }
+        if (numberCount > MAX_NUMBERS)
+            throw new FrameworkException ("Too many number segments in OSC address pattern: " + pattern);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Execute the handler which matches the address. Fixed segments have precedence over numbers,
+     * numbers over wildcards.
+     *
+     * @param address The OSC address
+     * @param value A value parameter for the command, may be null
+     * @return True if a matching handler was found and executed
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    public boolean dispatch (final String address, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
+    {
+        if (address == null || address.isEmpty () || address.charAt (0) != '/')
+            return false;
+
+        final Node node = this.match (this.root, address, 1, 0);
+        if (node == null)
+            return false;
+        node.handler.handle (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Recursively match the remaining part of an address.
+     *
+     * @param node The node which matched the previous segment
+     * @param address The address
+     * @param start The index of the first character of the next segment
+     * @param numberCount The number of already matched number segments
+     * @return The matching node with a handler or null
+     */
+    private Node match (final Node node, final String address, final int start, final int numberCount)
+    {
+        final int length = address.length ();
+        if (start >= length)
+            return node.handler == null ? null : node;
+
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = length;
+        final int segmentLength = end - start;
+        final int next = end + 1;
+
+        for (int i = 0; i < node.segments.length; i++)
+        {
+            final String segment = node.segments[i];
+            if (segment.length () == segmentLength && address.regionMatches (start, segment, 0, segmentLength))
+            {
+                final Node result = this.match (node.children[i], address, next, numberCount);
+                if (result != null)
+                    return result;
+                break;
+            }
+        }
+
+        if (node.numberChild != null && numberCount < MAX_NUMBERS)
+        {
+            final int number = parseNumber (address, start, end);
+            if (number >= 0)
+            {
+                this.numbers[numberCount] = number;
+                final Node result = this.match (node.numberChild, address, next, numberCount + 1);
+                if (result != null)
+                    return result;
+            }
+        }
+
+        if (node.wildcardChild != null && segmentLength > 0)
+            return this.match (node.wildcardChild, address, next, numberCount);
+
+        return null;
+    }
+
+
+    /**
+     * Parse a decimal number from a part of a text.
+     *
+     * @param text The text
+     * @param start The index of the first character
+     * @param end The index after the last character
+     * @return The number or -1 if the part is empty, contains other characters than digits or is
+     *         too large
+     */
+    private static int parseNumber (final String text, final int start, final int end)
+    {
+        if (start >= end || end - start > 9)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+}
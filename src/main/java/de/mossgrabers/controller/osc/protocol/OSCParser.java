@@ -33,7 +33,8 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final Map<String, IModule> modules     = new HashMap<> ();
+    private final OSCAddressTrie       addressTrie = new OSCAddressTrie ();
 
 
     /**
@@ -55,6 +56,8 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.addressTrie.register ("/refresh", (numbers, value) -> this.writer.flush (true));
     }
 
 
@@ -64,21 +67,19 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
         final Object value = values == null || values.length == 0 ? null : values[0];
         try
         {
+            // Fast path for the addresses registered by the modules
+            if (this.addressTrie.dispatch (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
@@ -124,5 +125,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerHandlers (this.addressTrie);
     }
 }
\ No newline at end of file
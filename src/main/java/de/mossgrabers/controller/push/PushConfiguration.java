@@ -382,6 +382,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
         // Debugging
 
         this.activateDebugSettings (globalSettings);
+        this.activateFlushProfilerSetting (globalSettings);
+        this.activateMidiCaptureSetting (globalSettings);
     }
 
 
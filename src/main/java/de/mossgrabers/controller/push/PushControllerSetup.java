@@ -205,6 +205,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         }
         ms.setNumMarkers (8);
         ms.setHasFlatTrackList (false);
+        // For the birds eye view: the first 4x4 pages
+        ms.setOverviewSize (32, 32);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         this.sceneBank64 = this.model.createSceneBank (64);
 
@@ -26,31 +26,49 @@ import java.util.List;
 public class Push1Display extends AbstractTextDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String   BARS_NON            = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String   BARS_ONE            = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String   BARS_TWO            = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    public static final String     BARS_ONE_L    = Character.toString ((char) 4);
+    public static final String   BARS_ONE_L          = Character.toString ((char) 4);
     /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    private static final String  NON_4               = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
     /** Push character codes for value bars - the right arrow. */
-    public static final String     SELECT_ARROW  = Character.toString ((char) 127);
+    public static final String   SELECT_ARROW        = Character.toString ((char) 127);
     /** Push character for a degree sign. */
-    public static final String     DEGREE        = Character.toString ((char) 9);
+    public static final String   DEGREE              = Character.toString ((char) 9);
     /** Push character for a right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 30);
+    public static final String   RIGHT_ARROW         = Character.toString ((char) 30);
 
-    private static final String [] SYSEX_MESSAGE =
+    /** Translates the Push specific characters for the simulator GUI. */
+    private static final char [] CHARACTER_TABLE     = new char [256];
+    static
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        for (int i = 0; i < CHARACTER_TABLE.length; i++)
+            CHARACTER_TABLE[i] = (char) i;
+        CHARACTER_TABLE[BARS_NON.charAt (0)] = '-';
+        CHARACTER_TABLE[BARS_ONE.charAt (0)] = '|';
+        CHARACTER_TABLE[BARS_TWO.charAt (0)] = '|';
+        CHARACTER_TABLE[BARS_ONE_L.charAt (0)] = '|';
+        CHARACTER_TABLE[SELECT_ARROW.charAt (0)] = '>';
+        CHARACTER_TABLE[RIGHT_ARROW.charAt (0)] = '>';
+    }
+
+    /** A block of 17 characters consists of a cell with 9 and a cell with 8 characters. */
+    private static final int []  CELL_WIDTHS         =
+    {
+        9, 8, 9, 8, 9, 8, 9, 8
     };
 
-    private int                    maxParameterValue;
+    /** Header of the write text sysex message: F0 47 7F 15 [line] 00 [length + 1] [offset]. */
+    private static final int     SYSEX_HEADER_LENGTH = 8;
+    private static final int     LINE_OFFSET         = 0x18;
+
+    private final char [] []     lastSentRows        = new char [4] [68];
+    private final byte []        sysexBuffer         = new byte [SYSEX_HEADER_LENGTH + 68 + 1];
+    private int                  maxParameterValue;
 
 
     /**
@@ -64,7 +82,7 @@ public class Push1Display extends AbstractTextDisplay
      */
     public Push1Display (final IHost host, final int maxParameterValue, final IMidiOutput output, final PushConfiguration configuration)
     {
-        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
+        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */, CELL_WIDTHS);
 
         this.maxParameterValue = maxParameterValue;
     }
@@ -80,74 +98,86 @@ public class Push1Display extends AbstractTextDisplay
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay clearCell (final int row, final int column)
+    public ITextDisplay setCell (final int row, final int cell, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
-        return this;
+        return this.setCell (row, cell, formatStr (value, format, this.maxParameterValue));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay setBlock (final int row, final int block, final String value)
+    public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCell (row, cell, value, 8);
         return this;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay setCell (final int row, final int cell, final int value, final Format format)
-    {
-        return this.setCell (row, cell, formatStr (value, format, this.maxParameterValue));
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public ITextDisplay setCell (final int row, final int cell, final String value)
+    protected String convertCharacterset (final String text)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
-        return this;
+        // Translate the characters and add a separator between the 4 blocks of 17 characters
+        final char [] converted = new char [71];
+        int pos = 0;
+        for (int i = 0; i < 68; i++)
+        {
+            if (i > 0 && i % 17 == 0)
+                converted[pos++] = ' ';
+            final char c = text.charAt (i);
+            converted[pos++] = c < CHARACTER_TABLE.length ? CHARACTER_TABLE[c] : c;
+        }
+        return new String (converted);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    protected String convertCharacterset (final String text)
+    public void writeLine (final int row, final String text)
     {
-        final String t = text.replace (Push1Display.BARS_NON, "-").replace (Push1Display.BARS_ONE, "|").replace (Push1Display.BARS_TWO, "|").replace (Push1Display.BARS_ONE_L, "|").replace (Push1Display.SELECT_ARROW, ">").replace (Push1Display.RIGHT_ARROW, ">");
-        final StringBuilder sb = new StringBuilder (t.length ());
-        int beginIndex = 0;
-        int endIndex = 17;
-        for (int i = 0; i < 4; i++)
+        // Only send the range of characters which changed since the last update of the row
+        final char [] lastSent = this.lastSentRows[row];
+        final int textLength = Math.min (text.length (), lastSent.length);
+        int first = 0;
+        while (first < textLength && lastSent[first] == text.charAt (first))
+            first++;
+        if (first == textLength)
+            return;
+        int last = textLength - 1;
+        while (lastSent[last] == text.charAt (last))
+            last--;
+
+        final int length = last - first + 1;
+        final byte [] sysex = this.sysexBuffer;
+        sysex[0] = (byte) 0xF0;
+        sysex[1] = 0x47;
+        sysex[2] = 0x7F;
+        sysex[3] = 0x15;
+        sysex[4] = (byte) (LINE_OFFSET + row);
+        sysex[5] = 0;
+        sysex[6] = (byte) (length + 1);
+        sysex[7] = (byte) first;
+        for (int i = 0; i < length; i++)
         {
-            sb.append (t.substring (beginIndex, endIndex));
-            beginIndex += 17;
-            endIndex += 17;
-            if (i != 3)
-                sb.append (' ');
+            final char c = text.charAt (first + i);
+            lastSent[first + i] = c;
+            sysex[SYSEX_HEADER_LENGTH + i] = (byte) (c & 0x7F);
         }
-        return sb.toString ();
+        sysex[SYSEX_HEADER_LENGTH + length] = (byte) 0xF7;
+
+        this.output.sendSysex (Arrays.copyOf (sysex, SYSEX_HEADER_LENGTH + length + 1));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void writeLine (final int row, final String text)
+    public void forceFlush ()
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // Resend all characters
+        for (final char [] row: this.lastSentRows)
+            Arrays.fill (row, (char) 0);
+
+        super.forceFlush ();
     }
 
 
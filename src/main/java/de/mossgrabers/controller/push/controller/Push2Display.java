@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.utils.FlushProfiler;
 
 
 /**
@@ -34,6 +35,14 @@ public class Push2Display extends AbstractGraphicDisplay
         super (host, configuration, new DefaultGraphicsDimensions (960, 160, maxParameterValue), "Push 2 Display");
 
         this.usbDisplay = new PushUsbDisplay (host);
+
+        final FlushProfiler profiler = host.getFlushProfiler ();
+        profiler.registerValue ("Push 2 USB frames rendered", this.usbDisplay::getFramesRendered);
+        profiler.registerValue ("Push 2 USB frames sent", this.usbDisplay::getFramesSent);
+        profiler.registerValue ("Push 2 USB frames dropped", this.usbDisplay::getFramesDropped);
+        profiler.registerValue ("Push 2 USB frames failed", this.usbDisplay::getFramesFailed);
+        profiler.registerValue ("Push 2 USB latency avg (us)", () -> this.usbDisplay.getAverageLatency () / 1000);
+        profiler.registerValue ("Push 2 USB latency max (us)", () -> this.usbDisplay.getMaxLatency () / 1000);
     }
 
 
@@ -6,7 +6,6 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
-import de.mossgrabers.framework.controller.color.ColorIndexException;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
@@ -608,7 +607,7 @@ public class PushColorManager extends ColorManager
                 case MASTERTRACK:
                 case SETUP:
                 case LAYOUT:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 0 ? 0 : colorIndex == 8 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_WHITE));
+                    return this.colorByIndex[colorIndex == 0 ? 0 : colorIndex == 8 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_WHITE];
 
                 default:
                     // Fall through
@@ -620,16 +619,16 @@ public class PushColorManager extends ColorManager
             switch (buttonID)
             {
                 case PLAY:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI];
                 case AUTOMATION:
                 case RECORD:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : colorIndex == 4 ? PUSH2_COLOR2_RED_HI : PUSH2_COLOR2_AMBER));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : colorIndex == 4 ? PUSH2_COLOR2_RED_HI : PUSH2_COLOR2_AMBER];
                 case MUTE:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO];
                 case SOLO:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW];
                 case STOP_CLIP:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI];
 
                 case NEW:
                 case DUPLICATE:
@@ -665,7 +664,7 @@ public class PushColorManager extends ColorManager
                 case ARROW_DOWN:
                 case ARROW_UP:
                 case MASTERTRACK:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 0 ? 0 : colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_WHITE));
+                    return this.colorByIndex[colorIndex == 0 ? 0 : colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_WHITE];
 
                 default:
                     // Fall through
@@ -673,9 +672,6 @@ public class PushColorManager extends ColorManager
             }
         }
 
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
-        if (color == null)
-            throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
-        return color;
+        return this.lookupColor (colorIndex);
     }
 }
\ No newline at end of file
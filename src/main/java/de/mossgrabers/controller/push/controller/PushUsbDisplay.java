@@ -12,22 +12,31 @@ import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. Frames are encoded into a back buffer on the
+ * rendering thread and handed to a dedicated sender, which transfers them with asynchronous bulk
+ * transfers. While a transfer is in progress, newer frames replace the pending one, therefore
+ * only the newest complete frame is sent.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int      DATA_SZ        = 20 * 0x4000;
 
-    private static final int     TIMEOUT        = 1000;
+    private static final int      TIMEOUT        = 1000;
 
-    private static final byte [] DISPLAY_HEADER =
+    private static final int      NONE           = -1;
+
+    private static final byte []  DISPLAY_HEADER =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -47,11 +56,25 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice           usbDevice;
-    private IUsbEndpoint         usbEndpoint;
-    private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private final IHost           host;
+    private IUsbDevice            usbDevice;
+    private IUsbEndpoint          usbEndpoint;
+    private final IMemoryBlock    headerBlock;
+    private final IMemoryBlock [] imageBlocks    = new IMemoryBlock [2];
+    private final ExecutorService sender         = Executors.newSingleThreadExecutor (PushUsbDisplay::createSenderThread);
+
+    private final Object          bufferLock     = new Object ();
+    private int                   pendingBuffer  = NONE;
+    private int                   sendingBuffer  = NONE;
+    private long                  pendingTimestamp;
+    private long                  sendingTimestamp;
+
+    private final AtomicLong      framesRendered = new AtomicLong ();
+    private final AtomicLong      framesSent     = new AtomicLong ();
+    private final AtomicLong      framesDropped  = new AtomicLong ();
+    private final AtomicLong      framesFailed   = new AtomicLong ();
+    private final AtomicLong      totalLatency   = new AtomicLong ();
+    private final AtomicLong      maxLatency     = new AtomicLong ();
 
 
     /**
@@ -61,6 +84,8 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
+        this.host = host;
+
         try
         {
             this.usbDevice = host.getUsbDevice (0);
@@ -75,55 +100,47 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        for (int i = 0; i < this.imageBlocks.length; i++)
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Encode the image into the back buffer and queue it for sending. Returns immediately, the
+     * transfer is executed by the sender. If the previous frame is still waiting to be sent it is
+     * replaced by this one.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        synchronized (this.isSending)
+        final int backBuffer;
+        synchronized (this.bufferLock)
         {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
+            if (this.usbDevice == null || this.usbEndpoint == null)
                 return;
 
-            this.isSending.set (true);
-
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
-
-                final int padding = (buffer.capacity () - height * width * 2) / height;
-
-                for (int y = 0; y < height; y++)
-                {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
-                }
+            // The back buffer is the one which is not in transfer, a frame waiting in it is
+            // outdated now
+            backBuffer = this.sendingBuffer == 0 ? 1 : 0;
+            if (this.pendingBuffer != NONE)
+            {
+                this.pendingBuffer = NONE;
+                this.framesDropped.incrementAndGet ();
+            }
+        }
 
-                imageBuffer.rewind ();
-            });
+        encode (image, this.imageBlocks[backBuffer].createByteBuffer ());
+        this.framesRendered.incrementAndGet ();
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-            this.isSending.set (false);
+        synchronized (this.bufferLock)
+        {
+            if (this.usbEndpoint == null)
+                return;
+            this.pendingBuffer = backBuffer;
+            this.pendingTimestamp = System.nanoTime ();
+            if (this.sendingBuffer == NONE)
+                this.executeOnSender (this::sendPendingFrame);
         }
     }
 
@@ -133,11 +150,247 @@ public class PushUsbDisplay
      */
     public void shutdown ()
     {
-        synchronized (this.isSending)
+        final IUsbEndpoint endpoint;
+        final int buffer;
+        synchronized (this.bufferLock)
         {
+            endpoint = this.usbEndpoint;
+            buffer = this.pendingBuffer;
             this.usbDevice = null;
             this.usbEndpoint = null;
+            this.pendingBuffer = NONE;
+        }
+        this.sender.shutdown ();
+        this.awaitSender ();
+
+        // Send the last frame (e.g. the shutdown message) synchronously since the sender is gone
+        if (endpoint == null || buffer == NONE)
+            return;
+        endpoint.send (this.headerBlock, TIMEOUT);
+        endpoint.send (this.imageBlocks[buffer], TIMEOUT);
+    }
+
+
+    /**
+     * Get the number of frames which were encoded for sending.
+     *
+     * @return The number of frames
+     */
+    public long getFramesRendered ()
+    {
+        return this.framesRendered.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were completely transferred to the device.
+     *
+     * @return The number of frames
+     */
+    public long getFramesSent ()
+    {
+        return this.framesSent.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were replaced by a newer frame before they could be sent.
+     *
+     * @return The number of frames
+     */
+    public long getFramesDropped ()
+    {
+        return this.framesDropped.get ();
+    }
+
+
+    /**
+     * Get the number of frames which failed to transfer.
+     *
+     * @return The number of frames
+     */
+    public long getFramesFailed ()
+    {
+        return this.framesFailed.get ();
+    }
+
+
+    /**
+     * Get the average latency between queuing a frame and the completion of its transfer.
+     *
+     * @return The average latency in nanoseconds, 0 if no frame has been sent yet
+     */
+    public long getAverageLatency ()
+    {
+        final long sent = this.framesSent.get ();
+        return sent == 0 ? 0 : this.totalLatency.get () / sent;
+    }
+
+
+    /**
+     * Get the maximum latency between queuing a frame and the completion of its transfer.
+     *
+     * @return The maximum latency in nanoseconds
+     */
+    public long getMaxLatency ()
+    {
+        return this.maxLatency.get ();
+    }
+
+
+    /**
+     * Starts the transfer of the pending frame, if any. Runs on the sender thread.
+     */
+    private void sendPendingFrame ()
+    {
+        final IUsbEndpoint endpoint;
+        final int buffer;
+        synchronized (this.bufferLock)
+        {
+            endpoint = this.usbEndpoint;
+            if (endpoint == null || this.sendingBuffer != NONE || this.pendingBuffer == NONE)
+                return;
+            buffer = this.pendingBuffer;
+            this.pendingBuffer = NONE;
+            this.sendingBuffer = buffer;
+            this.sendingTimestamp = this.pendingTimestamp;
+        }
+
+        endpoint.sendAsync (this.headerBlock, headerLength -> {
+            if (headerLength < 0)
+            {
+                this.executeOnSender ( () -> this.finishFrame (false));
+                return;
+            }
+            endpoint.sendAsync (this.imageBlocks[buffer], imageLength -> this.executeOnSender ( () -> this.finishFrame (imageLength >= 0)), TIMEOUT);
+        }, TIMEOUT);
+    }
+
+
+    /**
+     * Called on the sender thread when the transfer of the current frame has finished. Continues
+     * with the next pending frame.
+     *
+     * @param success True if the transfer succeeded
+     */
+    private void finishFrame (final boolean success)
+    {
+        synchronized (this.bufferLock)
+        {
+            if (success)
+            {
+                final long latency = System.nanoTime () - this.sendingTimestamp;
+                this.framesSent.incrementAndGet ();
+                this.totalLatency.addAndGet (latency);
+                this.maxLatency.accumulateAndGet (latency, Math::max);
+            }
+            else
+                this.framesFailed.incrementAndGet ();
+            this.sendingBuffer = NONE;
+            this.bufferLock.notifyAll ();
+        }
+
+        // Report on the host thread
+        if (!success && !this.sender.isShutdown ())
+            this.host.scheduleTask ( () -> this.host.error ("Could not send frame to the USB display."), 0);
+
+        this.sendPendingFrame ();
+    }
+
+
+    /**
+     * Execute a task on the sender thread. Tasks arriving after the shutdown are executed directly,
+     * since they only finish the transfer which is awaited by the shutdown.
+     *
+     * @param task The task to execute
+     */
+    private void executeOnSender (final Runnable task)
+    {
+        try
+        {
+            this.sender.execute (task);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            task.run ();
+        }
+    }
+
+
+    /**
+     * Wait until the sender has terminated and the running transfer has finished, to not overlap
+     * it with the final synchronous transfer.
+     */
+    private void awaitSender ()
+    {
+        try
+        {
+            final long deadline = System.currentTimeMillis () + TIMEOUT;
+            this.sender.awaitTermination (TIMEOUT, TimeUnit.MILLISECONDS);
+            synchronized (this.bufferLock)
+            {
+                long remaining = deadline - System.currentTimeMillis ();
+                while (this.sendingBuffer != NONE && remaining > 0)
+                {
+                    this.bufferLock.wait (remaining);
+                    remaining = deadline - System.currentTimeMillis ();
+                }
+            }
         }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    /**
+     * Create the thread of the sender. It is a daemon to not block the shutdown of the DAW.
+     *
+     * @param runnable The runnable of the executor
+     * @return The thread
+     */
+    private static Thread createSenderThread (final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, "Push 2 Display Sender");
+        thread.setDaemon (true);
+        return thread;
+    }
+
+
+    /**
+     * Encode the image into the buffer in the format of the Push 2 display.
+     *
+     * @param image The image to encode
+     * @param buffer The buffer to fill
+     */
+    private static void encode (final IBitmap image, final ByteBuffer buffer)
+    {
+        image.encode ( (imageBuffer, width, height) -> {
+            buffer.clear ();
+
+            final int padding = (buffer.capacity () - height * width * 2) / height;
+
+            for (int y = 0; y < height; y++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    final int blue = imageBuffer.get ();
+                    final int green = imageBuffer.get ();
+                    final int red = imageBuffer.get ();
+                    imageBuffer.get (); // Drop unused Alpha
+
+                    final int pixel = sPixelFromRGB (red, green, blue);
+                    buffer.put ((byte) (pixel & 0x00FF));
+                    buffer.put ((byte) ((pixel & 0xFF00) >> 8));
+                }
+
+                for (int x = 0; x < padding; x++)
+                    buffer.put ((byte) 0x00);
+            }
+
+            imageBuffer.rewind ();
+        });
     }
 
 
@@ -469,6 +469,15 @@ public class DeviceBrowserMode extends BaseMode
     {
         int speed = (int) this.model.getValueChanger ().calcKnobSpeed (value, 1);
         final boolean direction = speed > 0;
+
+        // Jump to the next/previous initial letter of the results with Select
+        if (index == 7 && this.surface.isSelectPressed ())
+        {
+            this.surface.setTriggerConsumed (ButtonID.SELECT);
+            this.model.getBrowser ().selectNextResultInitial (direction);
+            return;
+        }
+
         if (this.surface.isShiftPressed ())
             speed = speed * 4;
 
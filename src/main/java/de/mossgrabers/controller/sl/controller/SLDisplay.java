@@ -11,6 +11,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * The SLs display.
@@ -20,10 +22,26 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractTextDisplay
 {
     /** The right arrow. */
-    public static final String   RIGHT_ARROW = ">";
+    public static final String   RIGHT_ARROW  = ">";
+
+    private static final byte [] SYSEX_HEADER;
+    static
+    {
+        final int [] header = StringUtils.fromHexStr (SLControlSurface.SYSEX_HEADER.replace (" ", ""));
+        SYSEX_HEADER = new byte [header.length];
+        for (int i = 0; i < header.length; i++)
+            SYSEX_HEADER[i] = (byte) header[i];
+    }
+
+    /** Each cell has 9 characters, the last one is always a space. */
+    private static final int []  CELL_WIDTHS  =
+    {
+        9, 9, 9, 9, 9, 9, 9, 9
+    };
 
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
+    private final char [] []     lastSentRows = new char [4] [72];
 
 
     /**
@@ -37,7 +55,7 @@ public class SLDisplay extends AbstractTextDisplay
      */
     public SLDisplay (final IHost host, final IMidiOutput output, final IHwTextDisplay hwTextDisplay1, final IHwTextDisplay hwTextDisplay2)
     {
-        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8 * 8);
+        super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8 * 8, CELL_WIDTHS);
 
         this.hwTextDisplay1 = hwTextDisplay1;
         this.hwTextDisplay2 = hwTextDisplay2;
@@ -63,57 +81,71 @@ public class SLDisplay extends AbstractTextDisplay
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay clearCell (final int row, final int column)
+    public ITextDisplay setBlock (final int row, final int block, final String value)
     {
-        this.cells[row * this.noOfCells + column] = "         ";
+        // The last character of a block is always a space
+        this.writeText (row, this.getCellOffset (2 * block), value, 17, 18);
         return this;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay setBlock (final int row, final int block, final String value)
+    public ITextDisplay setCell (final int row, final int column, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCell (row, column, value, 8);
         return this;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public ITextDisplay setCell (final int row, final int column, final String value)
+    public void writeLine (final int row, final String text)
     {
-        try
-        {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
+        // Only send the range of characters which changed since the last update of the row
+        final char [] lastSent = this.lastSentRows[row];
+        final int textLength = Math.min (text.length (), lastSent.length);
+        int first = 0;
+        while (first < textLength && lastSent[first] == text.charAt (first))
+            first++;
+        if (first == textLength)
+            return;
+        int last = textLength - 1;
+        while (lastSent[last] == text.charAt (last))
+            last--;
+
+        // Header, set cursor position (01 column row), write text (04 characters), end (00 F7)
+        final int length = last - first + 1;
+        final byte [] sysex = new byte [SYSEX_HEADER.length + 7 + length];
+        System.arraycopy (SYSEX_HEADER, 0, sysex, 0, SYSEX_HEADER.length);
+        int pos = SYSEX_HEADER.length;
+        sysex[pos++] = 0x02;
+        sysex[pos++] = 0x01;
+        sysex[pos++] = (byte) first;
+        sysex[pos++] = (byte) (row + 1 & 0x7F);
+        sysex[pos++] = 0x04;
+        for (int i = first; i <= last; i++)
         {
-            this.host.error ("Display array index out of bounds.", ex);
+            final char c = text.charAt (i);
+            lastSent[i] = c;
+            sysex[pos++] = (byte) (c & 0x7F);
         }
-        return this;
+        sysex[pos++] = 0x00;
+        sysex[pos] = (byte) 0xF7;
+
+        this.output.sendSysex (sysex);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void writeLine (final int row, final String text)
+    public void forceFlush ()
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (row + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        // Resend all characters
+        for (final char [] row: this.lastSentRows)
+            Arrays.fill (row, (char) 0);
+
+        super.forceFlush ();
     }
 
 
@@ -125,14 +157,6 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
-
-
     /**
      * Get the 1st hardware display.
      *
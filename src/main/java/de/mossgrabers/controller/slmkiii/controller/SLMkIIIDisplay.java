@@ -10,6 +10,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * The displays of SL MkIII.
@@ -20,7 +22,6 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
 {
     private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
     private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
     private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
 
     private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
@@ -32,13 +33,32 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     /** The layout with larger selection boxes. */
     public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    /** Header of the property command, followed by [column property object data]+ F7. */
+    private static final byte [] MKIII_SYSEX_PROPERTY_HEADER      =
+    {
+        (byte) 0xF0,
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x0A,
+        0x01,
+        0x02
+    };
+
+    /** Maximum number of property bytes to combine into one sysex message. */
+    private static final int     MAX_PROPERTY_BATCH_SIZE          = 256;
+
+    private static final int     PROPERTY_TEXT                    = 1;
+    private static final int     PROPERTY_COLOR                   = 2;
+    private static final int     PROPERTY_VALUE                   = 3;
 
     private final String []      ledCache                         = new String [8];
+    private final String [] []   displayTextCache                 = new String [9] [4];
     private final int [] []      displayColorCache                = new int [9] [4];
     private final int [] []      displayValueCache                = new int [9] [4];
+    private final byte []        propertyBatch                    = new byte [MAX_PROPERTY_BATCH_SIZE + 16];
+    private int                  propertyBatchSize                = 0;
 
 
     /**
@@ -77,6 +97,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
+        this.sendProperties ();
         this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
         this.clearDisplayCache ();
         this.forceFlush ();
@@ -122,7 +143,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, color);
     }
 
 
@@ -136,11 +157,17 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     private void setPropertyText (final int hPosition, final int vPosition, final String text)
     {
-        String ascii = StringUtils.fixASCII (text);
-        if (ascii.length () > 9)
-            ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        if (text.equals (this.displayTextCache[hPosition][vPosition]))
+            return;
+        this.displayTextCache[hPosition][vPosition] = text;
+
+        final String ascii = StringUtils.fixASCII (text);
+        final int length = Math.min (ascii.length (), 9);
+        this.reserveProperty (length + 1);
+        this.addPropertyHeader (PROPERTY_TEXT, hPosition, vPosition);
+        for (int i = 0; i < length; i++)
+            this.propertyBatch[this.propertyBatchSize++] = (byte) (ascii.charAt (i) & 0x7F);
+        this.propertyBatch[this.propertyBatchSize++] = 0;
     }
 
 
@@ -157,22 +184,83 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, value);
     }
 
 
     /**
-     * Set a display property.
+     * Set a display property with a single byte value. The property is collected and sent together
+     * with all other changed properties on the next flush.
      *
-     * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
+     * @param property The property: PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param value The value to set (0-127)
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private void setProperty (final int property, final int hPosition, final int vPosition, final int value)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        this.reserveProperty (1);
+        this.addPropertyHeader (property, hPosition, vPosition);
+        this.propertyBatch[this.propertyBatchSize++] = (byte) (value & 0x7F);
+    }
+
+
+    /**
+     * Sends the collected properties if there is not enough room for another property.
+     *
+     * @param dataLength The number of data bytes of the property to add
+     */
+    private void reserveProperty (final int dataLength)
+    {
+        if (this.propertyBatchSize + 3 + dataLength > MAX_PROPERTY_BATCH_SIZE)
+            this.sendProperties ();
+    }
+
+
+    private void addPropertyHeader (final int property, final int hPosition, final int vPosition)
+    {
+        this.propertyBatch[this.propertyBatchSize++] = (byte) hPosition;
+        this.propertyBatch[this.propertyBatchSize++] = (byte) property;
+        this.propertyBatch[this.propertyBatchSize++] = (byte) vPosition;
+    }
+
+
+    /**
+     * Send all collected property changes combined into one sysex message.
+     */
+    private void sendProperties ()
+    {
+        if (this.propertyBatchSize == 0)
+            return;
+
+        final int headerLength = MKIII_SYSEX_PROPERTY_HEADER.length;
+        final byte [] sysex = new byte [headerLength + this.propertyBatchSize + 1];
+        System.arraycopy (MKIII_SYSEX_PROPERTY_HEADER, 0, sysex, 0, headerLength);
+        System.arraycopy (this.propertyBatch, 0, sysex, headerLength, this.propertyBatchSize);
+        sysex[sysex.length - 1] = (byte) 0xF7;
+        this.propertyBatchSize = 0;
+
+        this.output.sendSysex (sysex);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        super.flush ();
+        this.sendProperties ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        for (final String [] column: this.displayTextCache)
+            Arrays.fill (column, null);
+
+        super.forceFlush ();
     }
 
 
@@ -202,7 +290,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
 
 
     /**
-     * Clear the cache of the display colors and values.
+     * Clear the cache of the display texts, colors and values.
      */
     private void clearDisplayCache ()
     {
@@ -210,6 +298,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         {
             for (int j = 0; j < 4; j++)
             {
+                this.displayTextCache[i][j] = null;
                 this.displayColorCache[i][j] = -1;
                 this.displayValueCache[i][j] = -1;
             }
@@ -137,7 +137,7 @@ public class DrumView extends AbstractDrumView<SLMkIIIControlSurface, SLMkIIICon
         if (!drumPad.doesExist () || !drumPad.isActivated ())
             return SLMkIIIColorManager.SLMKIII_BLACK;
 
-        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColorARGB ()));
     }
 
 
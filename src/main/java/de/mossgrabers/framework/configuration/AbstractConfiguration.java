@@ -21,8 +21,10 @@ import de.mossgrabers.framework.scale.ScaleLayout;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -112,6 +114,17 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      INCLUDE_MASTER                    = Integer.valueOf (37);
     /** Setting for excluding deactivated tracks. */
     public static final Integer      EXCLUDE_DEACTIVATED_ITEMS         = Integer.valueOf (38);
+    /** Action for recording and replaying the MIDI input. */
+    public static final Integer      MIDI_CAPTURE                      = Integer.valueOf (39);
+
+    /** No MIDI capture action was triggered. */
+    public static final int          MIDI_CAPTURE_OFF                  = 0;
+    /** Start or stop recording the MIDI input. */
+    public static final int          MIDI_CAPTURE_RECORD               = 1;
+    /** Replay the recorded MIDI input. */
+    public static final int          MIDI_CAPTURE_REPLAY               = 2;
+    /** Replay the recorded MIDI input 4 times faster. */
+    public static final int          MIDI_CAPTURE_REPLAY_FAST          = 3;
 
     // Implementation IDs start at 50
 
@@ -295,6 +308,7 @@ public abstract class AbstractConfiguration implements Configuration
     private IEnumSetting                             midiEditChannelSetting;
 
     private final Map<Integer, Set<SettingObserver>> observers                   = new HashMap<> ();
+    private final Set<Integer>                       pendingSettings             = new LinkedHashSet<> ();
     protected IValueChanger                          valueChanger;
 
     private String                                   scale                       = "Major";
@@ -343,6 +357,7 @@ public abstract class AbstractConfiguration implements Configuration
     private final ArpeggiatorMode []                 arpeggiatorModes;
 
     private boolean                                  includeMaster               = true;
+    private int                                      midiCapture                 = MIDI_CAPTURE_OFF;
     private boolean                                  excludeDeactivatedItems     = false;
     private final String []                          userPageNames               = new String [8];
 
@@ -372,7 +387,7 @@ public abstract class AbstractConfiguration implements Configuration
     @Override
     public void addSettingObserver (final Integer settingID, final SettingObserver observer)
     {
-        this.observers.computeIfAbsent (settingID, id -> new HashSet<> ()).add (observer);
+        this.observers.computeIfAbsent (settingID, id -> new LinkedHashSet<> ()).add (observer);
     }
 
 
@@ -381,6 +396,36 @@ public abstract class AbstractConfiguration implements Configuration
     public void clearSettingObservers ()
     {
         this.observers.clear ();
+        this.pendingSettings.clear ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void notifySettingObservers ()
+    {
+        if (this.pendingSettings.isEmpty ())
+            return;
+
+        // Observers might change further settings, which are notified with the next batch
+        final List<Integer> changedSettings = new ArrayList<> (this.pendingSettings);
+        this.pendingSettings.clear ();
+
+        // Collect each observer only once but move it behind the observers of all settings which
+        // changed before, e.g. to update the note mapping after all scale settings are applied
+        final Set<SettingObserver> affected = new LinkedHashSet<> ();
+        for (final Integer settingID: changedSettings)
+        {
+            final Set<SettingObserver> set = this.observers.get (settingID);
+            if (set == null)
+                continue;
+            for (final SettingObserver observer: set)
+            {
+                affected.remove (observer);
+                affected.add (observer);
+            }
+        }
+        affected.forEach (SettingObserver::hasChanged);
     }
 
 
@@ -468,6 +513,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getMidiCapture ()
+    {
+        return this.midiCapture;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isEnableVUMeters ()
@@ -921,6 +974,41 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the flush profiler setting. While enabled, a summary of the flush timings is printed
+     * to the console every 10 seconds.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushProfilerSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting flushProfilerSetting = settingsUI.getEnumSetting ("Profile flush cycle", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        flushProfilerSetting.addValueObserver (value -> this.host.getFlushProfiler ().setEnabled ("On".equals (value)));
+    }
+
+
+    /**
+     * Activate the MIDI capture actions. Records the MIDI input of the surface into a file in the
+     * home folder of the user or replays it from there. These are buttons and not stored values,
+     * therefore nothing is recorded or replayed when the extension starts.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateMidiCaptureSetting (final ISettingsUI settingsUI)
+    {
+        settingsUI.getSignalSetting ("MIDI input capture", CATEGORY_DEBUG, "Record / Stop").addValueObserver (value -> this.triggerMidiCapture (MIDI_CAPTURE_RECORD));
+        settingsUI.getSignalSetting ("MIDI input replay", CATEGORY_DEBUG, "Replay").addValueObserver (value -> this.triggerMidiCapture (MIDI_CAPTURE_REPLAY));
+        settingsUI.getSignalSetting ("MIDI input replay (4x speed)", CATEGORY_DEBUG, "Replay").addValueObserver (value -> this.triggerMidiCapture (MIDI_CAPTURE_REPLAY_FAST));
+    }
+
+
+    private void triggerMidiCapture (final int action)
+    {
+        this.midiCapture = action;
+        this.notifyObservers (MIDI_CAPTURE);
+    }
+
+
     /**
      * Activate the behaviour on stop setting.
      *
@@ -1333,15 +1421,21 @@ public abstract class AbstractConfiguration implements Configuration
 
 
     /**
-     * Notify all observers about the change of a setting.
+     * Notify all observers about the change of a setting. The notification is delayed until
+     * notifySettingObservers is called, which batches all changes delivered by the DAW in one go.
+     * A flush is requested for the first change of a batch since the DAW might not flush on its
+     * own, e.g. for a signal setting while the transport is stopped.
      *
      * @param settingID The ID of the setting, which has changed
      */
     protected void notifyObservers (final Integer settingID)
     {
-        final Set<SettingObserver> set = this.observers.get (settingID);
-        if (set != null)
-            set.forEach (SettingObserver::hasChanged);
+        // Nothing to notify, e.g. while the settings are created
+        if (!this.observers.containsKey (settingID))
+            return;
+        if (this.pendingSettings.isEmpty ())
+            this.host.requestFlush ();
+        this.pendingSettings.add (settingID);
     }
 
 
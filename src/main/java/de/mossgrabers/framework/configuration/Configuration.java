@@ -32,6 +32,15 @@ public interface Configuration
     void clearSettingObservers ();
 
 
+    /**
+     * Notify the observers of all settings which have changed since the last call. Each observer
+     * is notified once, even if several of its settings have changed or a setting has changed
+     * several times. Call it after the DAW has delivered a batch of changes, e.g. when a document
+     * was loaded or the settings were restored to their defaults.
+     */
+    void notifySettingObservers ();
+
+
     /**
      * Get the scale by name.
      *
@@ -64,6 +73,14 @@ public interface Configuration
     String getScaleLayout ();
 
 
+    /**
+     * Get the last triggered MIDI capture action.
+     *
+     * @return One of the MIDI_CAPTURE_* constants of AbstractConfiguration
+     */
+    int getMidiCapture ();
+
+
     /**
      * Is the VU meters state enabled?
      *
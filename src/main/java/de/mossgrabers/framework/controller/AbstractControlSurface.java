@@ -27,9 +27,12 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.TranslationTableRegistry;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.FlushProfiler;
+import de.mossgrabers.framework.utils.FlushProfiler.Phase;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 
@@ -81,13 +84,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected final IPadGrid                        pads;
     protected final ILightGuide                     lightGuide;
 
-    private int []                                  keyTranslationTable;
+    private TranslationTableRegistry.Table          keyTranslationTable;
+    private TranslationTableRegistry.Table          velocityTranslationTable;
 
     private final DummyDisplay                      dummyDisplay;
     private IHwPianoKeyboard                        pianoKeyboard;
 
     private final Object                            updateCounterLock     = new Object ();
     private int                                     updateCounter         = 0;
+    private final FlushGovernor                     flushGovernor         = new FlushGovernor ();
 
 
     /**
@@ -317,6 +322,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         final IBitmap bitmap = display.getImage ();
         display.setHardwareDisplay (this.surfaceFactory.createGraphicsDisplay (this.surfaceID, OutputID.DISPLAY1, bitmap));
+        display.setFlushGovernor (this.flushGovernor);
         this.graphicsDisplays.add (display);
     }
 
@@ -383,15 +389,16 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setKeyTranslationTable (final int [] table)
     {
-        this.keyTranslationTable = table;
+        final TranslationTableRegistry.Table sharedTable = TranslationTableRegistry.get (table);
+        // Identical content results in the identical shared table
+        if (sharedTable == this.keyTranslationTable)
+            return;
+        this.keyTranslationTable = sharedTable;
         if (this.input == null)
             return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
         final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
         if (defaultNoteInput != null)
-            defaultNoteInput.setKeyTranslationTable (t);
+            defaultNoteInput.setKeyTranslationTable (sharedTable.getBoxedValues ());
     }
 
 
@@ -399,7 +406,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public int [] getKeyTranslationTable ()
     {
-        return this.keyTranslationTable;
+        return this.keyTranslationTable == null ? null : this.keyTranslationTable.getValues ();
     }
 
 
@@ -409,12 +416,13 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         if (this.input == null)
             return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
+        final TranslationTableRegistry.Table sharedTable = TranslationTableRegistry.get (table);
+        if (sharedTable == this.velocityTranslationTable)
+            return;
+        this.velocityTranslationTable = sharedTable;
         final INoteInput defaultNoteInput = this.input.getDefaultNoteInput ();
         if (defaultNoteInput != null)
-            defaultNoteInput.setVelocityTranslationTable (t);
+            defaultNoteInput.setVelocityTranslationTable (sharedTable.getBoxedValues ());
     }
 
 
@@ -664,16 +672,30 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 return;
         }
 
+        final FlushProfiler profiler = this.host.getFlushProfiler ();
+        final long flushStart = profiler.start ();
+        final long passStart = System.nanoTime ();
+        this.flushGovernor.beginPass ();
         try
         {
+            long start = profiler.start ();
             this.updateViewControls ();
+            profiler.stop (Phase.VIEW_CONTROLS, start);
+
+            start = profiler.start ();
             this.updateGrid ();
+            profiler.stop (Phase.GRID, start);
+
+            start = profiler.start ();
             this.flushHardware ();
+            profiler.stop (Phase.HARDWARE, start);
         }
         catch (final RuntimeException ex)
         {
             this.host.error ("Crash during flush.", ex);
         }
+        this.flushGovernor.endPass (System.nanoTime () - passStart);
+        profiler.stop (Phase.FLUSH, flushStart);
 
         synchronized (this.updateCounterLock)
         {
@@ -681,6 +703,15 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             {
                 this.updateCounter = 1;
                 this.scheduleTask (this::flushHandler, 1);
+                return;
+            }
+
+            // Run another pass when the skipped display updates are due
+            final long deferredDelay = this.flushGovernor.getDeferredDelay ();
+            if (deferredDelay >= 0)
+            {
+                this.updateCounter = 1;
+                this.scheduleTask (this::flushHandler, Math.max (1, deferredDelay));
             }
             else
                 this.updateCounter = 0;
@@ -688,6 +719,17 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Get the governor which paces the updates of the displays.
+     *
+     * @return The governor
+     */
+    public FlushGovernor getFlushGovernor ()
+    {
+        return this.flushGovernor;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
@@ -700,6 +742,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public final synchronized void shutdown ()
     {
+        this.flushGovernor.forceAll ();
         this.internalShutdown ();
         this.flushHardware ();
     }
@@ -910,11 +953,19 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
 
     /**
-     * Flush all changes to the hardware.
+     * Flush all changes to the hardware. The text displays are only flushed if they are due,
+     * otherwise their changes are kept for the next flush.
      */
     protected void flushHardware ()
     {
-        this.textDisplays.forEach (ITextDisplay::flush);
+        if (this.flushGovernor.isDue (FlushGovernor.Tier.TEXT_DISPLAYS))
+        {
+            final long start = System.nanoTime ();
+            this.textDisplays.forEach (ITextDisplay::flush);
+            this.flushGovernor.report (FlushGovernor.Tier.TEXT_DISPLAYS, System.nanoTime () - start);
+        }
+        else if (!this.textDisplays.isEmpty ())
+            this.flushGovernor.defer (FlushGovernor.Tier.TEXT_DISPLAYS);
         this.surfaceFactory.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
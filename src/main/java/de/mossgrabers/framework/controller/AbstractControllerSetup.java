@@ -21,15 +21,23 @@ import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.EditCapability;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.daw.midi.INoteRepeat;
+import de.mossgrabers.framework.daw.midi.MidiCapture;
+import de.mossgrabers.framework.daw.midi.MidiInputRecorder;
+import de.mossgrabers.framework.daw.midi.MidiReplayer;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.observer.SettingObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ConsoleLogger;
 import de.mossgrabers.framework.utils.IntConsumerSupplier;
+import de.mossgrabers.framework.utils.StartupReport;
 import de.mossgrabers.framework.view.View;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BooleanSupplier;
@@ -46,7 +54,9 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup<S, C>
 {
-    protected final List<S>       surfaces    = new ArrayList<> ();
+    private static final String   MIDI_CAPTURE_FILE = "DrivenByMoss-MIDI-Capture.txt";
+
+    protected final List<S>       surfaces          = new ArrayList<> ();
     protected final IHost         host;
     protected final ISettingsUI   globalSettings;
     protected final ISettingsUI   documentSettings;
@@ -57,7 +67,10 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     protected C                   configuration;
     protected ColorManager        colorManager;
     protected IValueChanger       valueChanger;
-    protected Modes               currentMode = null;
+    protected Modes               currentMode       = null;
+
+    private MidiReplayer          midiReplayer;
+    private final StartupReport   startupReport     = new StartupReport ();
 
 
     /**
@@ -123,18 +136,33 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void init ()
     {
+        this.startupReport.start ();
         this.initConfiguration ();
         this.createScales ();
+        this.startupReport.phase ("configuration");
         this.createModel ();
+        this.startupReport.phase ("model");
         this.createSurface ();
+        this.startupReport.phase ("surface");
         this.createModes ();
         this.createObservers ();
+        this.configuration.addSettingObserver (AbstractConfiguration.MIDI_CAPTURE, this::updateMidiCapture);
         this.createViews ();
+        this.startupReport.phase ("modes and views");
         this.registerTriggerCommands ();
         this.registerContinuousCommands ();
         this.layoutControls ();
         if (this.model != null)
             this.model.ensureClip ();
+        this.startupReport.phase ("controls");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public StartupReport getStartupReport ()
+    {
+        return this.startupReport;
     }
 
 
@@ -143,8 +171,11 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     public void exit ()
     {
         this.configuration.clearSettingObservers ();
+        this.stopMidiCapture ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        this.host.getTimerWheel ().clear ();
+        this.host.getFlushProfiler ().setEnabled (false);
         this.host.println ("Exited.");
     }
 
@@ -153,11 +184,101 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     @Override
     public void flush ()
     {
+        this.host.getTimerWheel ().tick ();
+        this.configuration.notifySettingObservers ();
         for (final S surface: this.surfaces)
             surface.flush ();
     }
 
 
+    /**
+     * Execute the triggered MIDI capture action: start or stop recording the MIDI input of the
+     * first surface into a file or replay the file. A running recording is stored and a running
+     * replay is cancelled first.
+     */
+    protected void updateMidiCapture ()
+    {
+        final MidiInputRecorder recorder = this.getMidiCaptureRecorder ();
+        if (recorder == null)
+            return;
+
+        final boolean wasRecording = recorder.isRecording ();
+        this.stopMidiCapture ();
+
+        final int midiCapture = this.configuration.getMidiCapture ();
+        switch (midiCapture)
+        {
+            case AbstractConfiguration.MIDI_CAPTURE_RECORD:
+                // Toggles the recording
+                if (wasRecording)
+                    break;
+                recorder.startRecording ();
+                this.host.println ("Recording MIDI input (max. " + MidiCapture.MAX_EVENTS + " messages)...");
+                break;
+
+            case AbstractConfiguration.MIDI_CAPTURE_REPLAY:
+            case AbstractConfiguration.MIDI_CAPTURE_REPLAY_FAST:
+                try
+                {
+                    final double speed = midiCapture == AbstractConfiguration.MIDI_CAPTURE_REPLAY_FAST ? 4 : 1;
+                    this.midiReplayer = new MidiReplayer (this.host, recorder, MidiCapture.load (getMidiCaptureFile ()), speed);
+                    this.midiReplayer.start ();
+                }
+                catch (final IOException ex)
+                {
+                    this.host.error ("Could not load MIDI capture.", ex);
+                }
+                break;
+
+            default:
+                // No action
+                break;
+        }
+    }
+
+
+    /**
+     * Store a running MIDI input recording and cancel a running replay.
+     */
+    private void stopMidiCapture ()
+    {
+        if (this.midiReplayer != null)
+        {
+            this.midiReplayer.cancel ();
+            this.midiReplayer = null;
+        }
+
+        final MidiInputRecorder recorder = this.getMidiCaptureRecorder ();
+        final MidiCapture capture = recorder == null ? null : recorder.stopRecording ();
+        if (capture == null)
+            return;
+
+        final File file = getMidiCaptureFile ();
+        try
+        {
+            capture.save (file);
+            this.host.println ("Stored " + capture.getEvents ().size () + " MIDI messages in " + file + (capture.isFull () ? ", further messages were ignored." : ""));
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not store MIDI capture.", ex);
+        }
+    }
+
+
+    private MidiInputRecorder getMidiCaptureRecorder ()
+    {
+        final IMidiInput input = this.surfaces.isEmpty () ? null : this.getSurface ().getMidiInput ();
+        return input == null ? null : input.getRecorder ();
+    }
+
+
+    private static File getMidiCaptureFile ()
+    {
+        return new File (System.getProperty ("user.home"), MIDI_CAPTURE_FILE);
+    }
+
+
     /**
      * Initialize the configuration settings.
      */
@@ -1053,28 +1174,23 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
     /**
      * Register observers for all scale settings. Stores the changed value in the scales object and
-     * updates the actives views note mapping.
+     * updates the actives views note mapping. The note mapping observer is shared by all scale
+     * settings, therefore it is only called once if several of them are changed in one batch.
      *
      * @param conf The configuration
      */
     protected void createScaleObservers (final C conf)
     {
-        conf.addSettingObserver (AbstractConfiguration.SCALES_SCALE, () -> {
-            this.scales.setScaleByName (conf.getScale ());
-            this.updateViewNoteMapping ();
-        });
-        conf.addSettingObserver (AbstractConfiguration.SCALES_BASE, () -> {
-            this.scales.setScaleOffsetByName (conf.getScaleBase ());
-            this.updateViewNoteMapping ();
-        });
-        conf.addSettingObserver (AbstractConfiguration.SCALES_IN_KEY, () -> {
-            this.scales.setChromatic (!conf.isScaleInKey ());
-            this.updateViewNoteMapping ();
-        });
-        conf.addSettingObserver (AbstractConfiguration.SCALES_LAYOUT, () -> {
-            this.scales.setScaleLayoutByName (conf.getScaleLayout ());
-            this.updateViewNoteMapping ();
-        });
+        conf.addSettingObserver (AbstractConfiguration.SCALES_SCALE, () -> this.scales.setScaleByName (conf.getScale ()));
+        conf.addSettingObserver (AbstractConfiguration.SCALES_BASE, () -> this.scales.setScaleOffsetByName (conf.getScaleBase ()));
+        conf.addSettingObserver (AbstractConfiguration.SCALES_IN_KEY, () -> this.scales.setChromatic (!conf.isScaleInKey ()));
+        conf.addSettingObserver (AbstractConfiguration.SCALES_LAYOUT, () -> this.scales.setScaleLayoutByName (conf.getScaleLayout ()));
+
+        final SettingObserver noteMappingObserver = this::updateViewNoteMapping;
+        conf.addSettingObserver (AbstractConfiguration.SCALES_SCALE, noteMappingObserver);
+        conf.addSettingObserver (AbstractConfiguration.SCALES_BASE, noteMappingObserver);
+        conf.addSettingObserver (AbstractConfiguration.SCALES_IN_KEY, noteMappingObserver);
+        conf.addSettingObserver (AbstractConfiguration.SCALES_LAYOUT, noteMappingObserver);
     }
 
 
@@ -0,0 +1,243 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.Arrays;
+
+
+/**
+ * Paces the flush passes of a control surface. The work of a pass is split into tiers of
+ * descending priority: controls (pads, buttons, lights), text displays and graphic displays.
+ * Controls are updated on every pass. The displays are updated at most with the target frame rate.
+ * The cost of each tier is measured and if a frame takes longer than the frame budget, the lowest
+ * tier is updated less often (down to an eighth of the target rate). If there is enough headroom
+ * again, the rate is raised again, highest tier first. Therefore, the latency of the pads stays
+ * the same while the displays are throttled. Must only be called from the controller thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushGovernor
+{
+    /** The work of a flush pass by descending priority. */
+    public enum Tier
+    {
+        /** Pads, buttons, lights and continuous controls. */
+        CONTROLS,
+        /** Text displays. */
+        TEXT_DISPLAYS,
+        /** Graphic displays. */
+        GRAPHIC_DISPLAYS
+    }
+
+
+    /** The default target frame rate in frames per second. */
+    public static final int      DEFAULT_TARGET_RATE = 60;
+
+    private static final Tier [] TIERS               = Tier.values ();
+    /** The maximum factor by which the interval of a tier is stretched. */
+    private static final int     MAX_DEGRADATION     = 8;
+    /** Adapt the degradation every 250ms. */
+    private static final long    ADAPT_INTERVAL      = 250000000L;
+    /** The weight of a new cost measurement for the moving average. */
+    private static final double  SMOOTHING           = 0.2;
+
+    private final double []      averageCost         = new double [TIERS.length];
+    private final int []         degradation         = new int [TIERS.length];
+    private final long []        lastUpdate          = new long [TIERS.length];
+    private final boolean []     isDue               = new boolean [TIERS.length];
+    private final boolean []     isDeferred          = new boolean [TIERS.length];
+    private int                  targetRate;
+    private long                 frameInterval;
+    private long                 lastAdaption        = System.nanoTime ();
+    private long                 passTierCost;
+
+
+    /**
+     * Constructor.
+     */
+    public FlushGovernor ()
+    {
+        Arrays.fill (this.degradation, 1);
+        Arrays.fill (this.isDue, true);
+        // All tiers are due on the first pass
+        Arrays.fill (this.lastUpdate, System.nanoTime () - 1000000000L);
+        this.setTargetRate (DEFAULT_TARGET_RATE);
+    }
+
+
+    /**
+     * Set the target frame rate of the displays.
+     *
+     * @param targetRate The rate in frames per second
+     */
+    public void setTargetRate (final int targetRate)
+    {
+        this.targetRate = Math.max (1, targetRate);
+        this.frameInterval = 1000000000L / this.targetRate;
+    }
+
+
+    /**
+     * Get the target frame rate of the displays.
+     *
+     * @return The rate in frames per second
+     */
+    public int getTargetRate ()
+    {
+        return this.targetRate;
+    }
+
+
+    /**
+     * Get the current update rate of a tier.
+     *
+     * @param tier The tier
+     * @return The rate in frames per second
+     */
+    public double getRate (final Tier tier)
+    {
+        return tier == Tier.CONTROLS ? this.targetRate : (double) this.targetRate / this.degradation[tier.ordinal ()];
+    }
+
+
+    /**
+     * Start a flush pass. Decides which tiers are updated in this pass.
+     */
+    public void beginPass ()
+    {
+        final long now = System.nanoTime ();
+        for (int i = 1; i < TIERS.length; i++)
+            this.isDue[i] = now - this.lastUpdate[i] >= this.frameInterval * this.degradation[i];
+        this.passTierCost = 0;
+
+        if (now - this.lastAdaption >= ADAPT_INTERVAL)
+        {
+            this.lastAdaption = now;
+            this.adapt ();
+        }
+    }
+
+
+    /**
+     * Update all tiers in the current pass, e.g. for the final flush on shutdown.
+     */
+    public void forceAll ()
+    {
+        Arrays.fill (this.isDue, true);
+    }
+
+
+    /**
+     * End a flush pass.
+     *
+     * @param passCost The duration of the whole pass in nanoseconds, the cost of the controls is
+     *            the remainder after subtracting the reported costs of the other tiers
+     */
+    public void endPass (final long passCost)
+    {
+        this.measure (Tier.CONTROLS, Math.max (0, passCost - this.passTierCost));
+    }
+
+
+    /**
+     * Should the tier be updated in the current pass?
+     *
+     * @param tier The tier
+     * @return True if the tier should be updated
+     */
+    public boolean isDue (final Tier tier)
+    {
+        return this.isDue[tier.ordinal ()];
+    }
+
+
+    /**
+     * Call if an update of a tier was skipped since it is not due. Another pass needs to be
+     * executed when it is due.
+     *
+     * @param tier The tier
+     */
+    public void defer (final Tier tier)
+    {
+        this.isDeferred[tier.ordinal ()] = true;
+    }
+
+
+    /**
+     * Report the update of a tier in the current pass.
+     *
+     * @param tier The tier
+     * @param cost The duration of the update in nanoseconds
+     */
+    public void report (final Tier tier, final long cost)
+    {
+        final int index = tier.ordinal ();
+        this.lastUpdate[index] = System.nanoTime ();
+        this.isDeferred[index] = false;
+        this.passTierCost += cost;
+        this.measure (tier, cost);
+    }
+
+
+    /**
+     * Get the delay after which the next deferred tier is due.
+     *
+     * @return The delay in milliseconds or -1 if no tier is deferred
+     */
+    public long getDeferredDelay ()
+    {
+        final long now = System.nanoTime ();
+        long delay = Long.MAX_VALUE;
+        for (int i = 1; i < TIERS.length; i++)
+        {
+            if (this.isDeferred[i])
+                delay = Math.min (delay, this.lastUpdate[i] + this.frameInterval * this.degradation[i] - now);
+        }
+        return delay == Long.MAX_VALUE ? -1 : Math.max (0, delay / 1000000L);
+    }
+
+
+    private void measure (final Tier tier, final long cost)
+    {
+        final int index = tier.ordinal ();
+        final double average = this.averageCost[index];
+        this.averageCost[index] = average == 0 ? cost : average + SMOOTHING * (cost - average);
+    }
+
+
+    /**
+     * Degrade the lowest tier if the load of a frame exceeds the budget or recover the highest
+     * degraded tier if there is enough headroom.
+     */
+    private void adapt ()
+    {
+        double load = 0;
+        for (int i = 0; i < TIERS.length; i++)
+            load += this.averageCost[i] / this.degradation[i];
+
+        if (load > this.frameInterval)
+        {
+            for (int i = TIERS.length - 1; i > 0; i--)
+            {
+                if (this.degradation[i] < MAX_DEGRADATION)
+                {
+                    this.degradation[i] *= 2;
+                    return;
+                }
+            }
+            return;
+        }
+
+        for (int i = 1; i < TIERS.length; i++)
+        {
+            if (this.degradation[i] == 1)
+                continue;
+            // Halving the degradation doubles the load of the tier, keep some headroom
+            if (load + this.averageCost[i] / this.degradation[i] < 0.75 * this.frameInterval)
+                this.degradation[i] /= 2;
+            return;
+        }
+    }
+}
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.controller;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.utils.StartupReport;
 
 import java.util.List;
 
@@ -27,11 +28,19 @@ public interface IControllerSetup<S extends IControlSurface<C>, C extends Config
 
 
     /**
-     * Startup the controller.
+     * Startup the controller. Called on a flush after the DAW had time to send its initial state.
      */
     void startup ();
 
 
+    /**
+     * Get the report about the duration of the startup phases.
+     *
+     * @return The report
+     */
+    StartupReport getStartupReport ();
+
+
     /**
      * Execute necessary shutdown functions.
      */
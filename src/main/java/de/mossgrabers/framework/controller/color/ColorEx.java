@@ -62,6 +62,9 @@ public class ColorEx
     /** Color red wine. */
     public static final ColorEx RED_WINE    = ColorEx.fromRGB (123, 42, 57);
 
+    /** Opaque black as packed ARGB. */
+    public static final int     BLACK_ARGB  = 0xFF000000;
+
     private static final double FACTOR      = 0.7;
     private static final double FACTOR2     = 0.4;
 
@@ -303,8 +306,11 @@ public class ColorEx
      */
     public int encode ()
     {
-        final int [] c = this.toIntRGB255 ();
-        return c[0] + (c[1] << 8) + (c[2] << 16);
+        // Called for each light on each flush, therefore do not create a temporary array
+        final int red = (int) Math.round (this.redValue * 255.0);
+        final int green = (int) Math.round (this.greenValue * 255.0);
+        final int blue = (int) Math.round (this.blueValue * 255.0);
+        return red + (green << 8) + (blue << 16);
     }
 
 
@@ -324,6 +330,51 @@ public class ColorEx
     }
 
 
+    /**
+     * Packs the red, green and blue values into an integer as 0xAARRGGBB. The alpha value is always
+     * opaque.
+     *
+     * @return The packed color
+     */
+    public int toARGB ()
+    {
+        return toARGB (this.redValue, this.greenValue, this.blueValue);
+    }
+
+
+    /**
+     * Packs the red, green and blue values into an integer as 0xAARRGGBB. The alpha value is always
+     * opaque.
+     *
+     * @param red The red component (0..1)
+     * @param green The green component (0..1)
+     * @param blue The blue component (0..1)
+     * @return The packed color
+     */
+    public static int toARGB (final double red, final double green, final double blue)
+    {
+        return BLACK_ARGB | toByte (red) << 16 | toByte (green) << 8 | toByte (blue);
+    }
+
+
+    /**
+     * Creates a color from a packed 0xAARRGGBB integer. The alpha value is ignored.
+     *
+     * @param argb The packed color
+     * @return The color
+     */
+    public static ColorEx fromARGB (final int argb)
+    {
+        return fromRGB (argb >> 16 & 0xFF, argb >> 8 & 0xFF, argb & 0xFF);
+    }
+
+
+    private static int toByte (final double value)
+    {
+        return Math.max (0, Math.min (255, (int) Math.round (value * 255.0)));
+    }
+
+
     /**
      * Get the red component.
      *
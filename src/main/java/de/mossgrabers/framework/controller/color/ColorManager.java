@@ -19,14 +19,17 @@ import java.util.Map;
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String           BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String           BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String           BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    /** The number of color indices. */
+    public static final int              NUM_COLORS       = 128;
+
+    protected final Map<String, Integer> colorIndexByKey  = new HashMap<> ();
+    protected final ColorEx []           colorByIndex     = new ColorEx [NUM_COLORS];
 
 
     /**
@@ -78,9 +81,9 @@ public class ColorManager
      */
     public void registerColor (final int colorIndex, final ColorEx color)
     {
-        if (colorIndex < 0 || colorIndex > 127)
+        if (colorIndex < 0 || colorIndex >= NUM_COLORS)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -95,7 +98,20 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        return this.lookupColor (colorIndex);
+    }
+
+
+    /**
+     * Get the registered color of a color index.
+     *
+     * @param colorIndex The color index
+     * @return The color
+     * @throws ColorIndexException The index is not registered
+     */
+    protected ColorEx lookupColor (final int colorIndex)
+    {
+        final ColorEx color = colorIndex < NUM_COLORS ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
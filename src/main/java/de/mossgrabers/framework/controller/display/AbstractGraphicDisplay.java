@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.display;
 
+import de.mossgrabers.framework.controller.FlushGovernor;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
 import de.mossgrabers.framework.daw.IHost;
@@ -32,6 +33,7 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.utils.FlushProfiler;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
@@ -86,6 +88,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     private final IBitmap                  image;
 
     private IHwGraphicsDisplay             hardwareDisplay;
+    private FlushGovernor                  flushGovernor;
 
 
     /**
@@ -149,18 +152,36 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         if (this.executor.isShutdown ())
             return;
 
+        // The content is added again on the next update, if it is not yet due
+        if (this.flushGovernor != null && !this.flushGovernor.isDue (FlushGovernor.Tier.GRAPHIC_DISPLAYS))
+        {
+            this.columns.clear ();
+            this.flushGovernor.defer (FlushGovernor.Tier.GRAPHIC_DISPLAYS);
+            return;
+        }
+        final long sendStart = System.nanoTime ();
+
         final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
 
         // Only render image if there is a change in the data
-        if (!this.info.equals (newInfo))
+        final FlushProfiler profiler = this.host.getFlushProfiler ();
+        if (this.info.equals (newInfo))
+            profiler.count (FlushProfiler.Event.GRAPHICS_DISPLAY_SKIPPED);
+        else
         {
             this.info = newInfo;
+            final long start = profiler.start ();
             this.renderImage ();
+            profiler.stop (FlushProfiler.Phase.DISPLAY_RENDERING, start);
+            profiler.count (FlushProfiler.Event.GRAPHICS_DISPLAY_RENDERED);
         }
 
         this.columns.clear ();
 
         this.send (this.image);
+
+        if (this.flushGovernor != null)
+            this.flushGovernor.report (FlushGovernor.Tier.GRAPHIC_DISPLAYS, System.nanoTime () - sendStart);
     }
 
 
@@ -378,6 +399,14 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setFlushGovernor (final FlushGovernor governor)
+    {
+        this.flushGovernor = governor;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IHwGraphicsDisplay getHardwareDisplay ()
@@ -7,11 +7,15 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.utils.FlushProfiler;
+
+import java.util.Arrays;
 
 
 /**
- * Abstract implementation of a display.
+ * Abstract implementation of a display. The content is assembled in a fixed character grid: cells
+ * are written in place, rows which are committed with done are compared with the content which
+ * was last sent to the device and only changed rows are flushed.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -33,11 +37,17 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     protected int            isNotificationActive = 0;
     protected final Object   notificationLock     = new Object ();
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
-    protected String []      fullRows;
-    protected String []      cells;
+    private final int []     cellOffsets;
+    private final int []     cellWidths;
+    private final int        rowLength;
+    private final char [] [] rows;
+    private final char [] [] doneRows;
+    private final char [] [] flushedRows;
+    private final String []  fullRows;
+    private final String []  doneFullRows;
+    private final String []  flushedFullRows;
+    private final boolean [] dirtyRows;
+    private final boolean [] hasDoneRows;
 
     protected IHwTextDisplay hwDisplay;
 
@@ -52,6 +62,23 @@ public abstract class AbstractTextDisplay implements ITextDisplay
      * @param noOfCharacters The number of characters of 1 row that the display supports
      */
     public AbstractTextDisplay (final IHost host, final IMidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters)
+    {
+        this (host, output, noOfLines, noOfCells, noOfCharacters, null);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param output The midi output which addresses the display
+     * @param noOfLines The number of rows that the display supports
+     * @param noOfCells The number of cells that the display supports
+     * @param noOfCharacters The number of characters of 1 row that the display supports
+     * @param cellWidths The number of characters of each cell, if null the characters of a row are
+     *            divided equally among the cells
+     */
+    public AbstractTextDisplay (final IHost host, final IMidiOutput output, final int noOfLines, final int noOfCells, final int noOfCharacters, final int [] cellWidths)
     {
         this.host = host;
         this.output = output;
@@ -61,19 +88,36 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.noOfCharacters = noOfCharacters;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        this.emptyCell = "                                                                     ".substring (0, this.charactersOfCell);
-
-        final StringBuilder sb = new StringBuilder (this.noOfCharacters);
-        for (int i = 0; i < this.noOfCharacters; i++)
-            sb.append (' ');
-        this.emptyLine = sb.toString ();
+        final char [] emptyChars = new char [this.noOfCharacters];
+        Arrays.fill (emptyChars, ' ');
+        this.emptyLine = new String (emptyChars);
         this.notificationMessage = this.emptyLine;
 
-        this.currentMessage = new String [this.noOfLines];
+        this.cellWidths = new int [this.noOfCells];
+        this.cellOffsets = new int [this.noOfCells];
+        int offset = 0;
+        for (int i = 0; i < this.noOfCells; i++)
+        {
+            this.cellWidths[i] = cellWidths == null ? this.charactersOfCell : cellWidths[i];
+            this.cellOffsets[i] = offset;
+            offset += this.cellWidths[i];
+        }
+        this.rowLength = offset;
+
+        this.rows = new char [this.noOfLines] [this.rowLength];
+        this.doneRows = new char [this.noOfLines] [this.rowLength];
+        this.flushedRows = new char [this.noOfLines] [this.rowLength];
+        for (int i = 0; i < this.noOfLines; i++)
+        {
+            Arrays.fill (this.rows[i], ' ');
+            Arrays.fill (this.doneRows[i], ' ');
+        }
 
-        this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+        this.doneFullRows = new String [this.noOfLines];
+        this.flushedFullRows = new String [this.noOfLines];
+        this.dirtyRows = new boolean [this.noOfLines];
+        this.hasDoneRows = new boolean [this.noOfLines];
     }
 
 
@@ -155,19 +199,19 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay done (final int row)
     {
-        if (this.fullRows[row] != null)
+        this.hasDoneRows[row] = true;
+        final String fullRow = this.fullRows[row];
+        if (fullRow != null)
         {
-            this.message[row] = this.fullRows[row];
             this.fullRows[row] = null;
-        }
-        else
-        {
-            final int index = row * this.noOfCells;
-            this.message[row] = "";
-            for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+            this.doneFullRows[row] = fullRow;
+            this.dirtyRows[row] = !fullRow.equals (this.flushedFullRows[row]);
+            return this;
         }
 
+        this.doneFullRows[row] = null;
+        System.arraycopy (this.rows[row], 0, this.doneRows[row], 0, this.rowLength);
+        this.dirtyRows[row] = this.flushedFullRows[row] != null || !Arrays.equals (this.doneRows[row], this.flushedRows[row]);
         return this;
     }
 
@@ -186,7 +230,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        Arrays.fill (this.rows[row], this.cellOffsets[column], this.cellOffsets[column] + this.cellWidths[column], ' ');
         return this;
     }
 
@@ -204,14 +248,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int column, final String value)
     {
-        try
-        {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
-        {
-            this.host.error ("Display array index out of bounds.", ex);
-        }
+        this.writeCell (row, column, value, this.getCellWidth (column));
         return this;
     }
 
@@ -221,17 +258,77 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     public ITextDisplay setBlock (final int row, final int block, final String value)
     {
         final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
+        final int length = this.getCellWidth (cell) + this.getCellWidth (cell + 1);
+        this.writeText (row, this.getCellOffset (cell), value, length, length);
+        return this;
+    }
+
+
+    /**
+     * Write a text into a cell. The text is truncated to the given length, the rest of the cell is
+     * filled with spaces.
+     *
+     * @param row The row
+     * @param column The cell
+     * @param value The text to write
+     * @param length The maximum number of characters of the text to write
+     */
+    protected void writeCell (final int row, final int column, final String value, final int length)
+    {
+        try
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            final int width = this.cellWidths[column];
+            this.writeText (row, this.cellOffsets[column], value, Math.min (length, width), width);
         }
-        else
+        catch (final ArrayIndexOutOfBoundsException ex)
         {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
+            this.host.error ("Display array index out of bounds.", ex);
         }
-        return this;
+    }
+
+
+    /**
+     * Write a text into a row. The text is truncated to the given length, the rest of the field is
+     * filled with spaces.
+     *
+     * @param row The row
+     * @param position The character position in the row where to start
+     * @param value The text to write, null is handled like an empty text
+     * @param length The maximum number of characters of the text to write
+     * @param fieldLength The number of characters to fill in the row
+     */
+    protected void writeText (final int row, final int position, final String value, final int length, final int fieldLength)
+    {
+        final char [] chars = this.rows[row];
+        final int end = Math.min (position + fieldLength, this.rowLength);
+        final int textLength = value == null ? 0 : Math.min (Math.min (value.length (), length), end - position);
+        if (textLength > 0)
+            value.getChars (0, textLength, chars, position);
+        Arrays.fill (chars, position + textLength, end, ' ');
+    }
+
+
+    /**
+     * Get the position of the first character of a cell in the row.
+     *
+     * @param column The cell
+     * @return The position
+     */
+    protected int getCellOffset (final int column)
+    {
+        return this.cellOffsets[column];
+    }
+
+
+    /**
+     * Get the number of characters of a cell.
+     *
+     * @param column The cell
+     * @return The number of characters
+     */
+    protected int getCellWidth (final int column)
+    {
+        return this.cellWidths[column];
     }
 
 
@@ -303,15 +400,30 @@ public abstract class AbstractTextDisplay implements ITextDisplay
             }
         }
 
+        boolean hasSent = false;
         for (int row = 0; row < this.noOfLines; row++)
         {
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            if (!this.dirtyRows[row])
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.updateLine (row, this.currentMessage[row]);
+            this.dirtyRows[row] = false;
+            hasSent = true;
+
+            final String fullRow = this.doneFullRows[row];
+            this.flushedFullRows[row] = fullRow;
+            if (fullRow != null)
+            {
+                Arrays.fill (this.flushedRows[row], (char) 0);
+                this.updateLine (row, fullRow);
+            }
+            else
+            {
+                System.arraycopy (this.doneRows[row], 0, this.flushedRows[row], 0, this.rowLength);
+                this.updateLine (row, new String (this.doneRows[row]));
+            }
         }
+
+        this.host.getFlushProfiler ().count (hasSent ? FlushProfiler.Event.TEXT_DISPLAY_SENT : FlushProfiler.Event.TEXT_DISPLAY_SKIPPED);
     }
 
 
@@ -344,7 +456,12 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public void forceFlush ()
     {
+        // Rows which were never done are only sent with their first content instead of blank
         for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        {
+            Arrays.fill (this.flushedRows[row], (char) 0);
+            this.flushedFullRows[row] = null;
+            this.dirtyRows[row] = this.hasDoneRows[row];
+        }
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.display;
 
+import de.mossgrabers.framework.controller.FlushGovernor;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.hardware.IHwGraphicsDisplay;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -326,6 +327,14 @@ public interface IGraphicDisplay extends IDisplay
     void setHardwareDisplay (IHwGraphicsDisplay display);
 
 
+    /**
+     * Assign the governor of the surface, which paces the rendering of the display.
+     *
+     * @param governor The governor
+     */
+    void setFlushGovernor (FlushGovernor governor);
+
+
     /**
      * Get the hardware display.
      *
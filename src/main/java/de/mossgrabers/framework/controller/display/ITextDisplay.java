@@ -145,7 +145,8 @@ public interface ITextDisplay extends IDisplay
 
 
     /**
-     * Forces the recreation of all row texts. The next call to flush will then send all rows.
+     * Forces the recreation of all row texts. The next call to flush will then send all rows which
+     * have content.
      */
     void forceFlush ();
 
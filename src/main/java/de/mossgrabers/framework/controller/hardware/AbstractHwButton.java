@@ -7,6 +7,7 @@ package de.mossgrabers.framework.controller.hardware;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     private ButtonEvent                    state;
     private boolean                        isConsumed;
     private int                            pressedVelocity       = 0;
+    private final TimerWheel.Timeout       longPressTimeout;
 
     private final List<ButtonEventHandler> downEventHandlers     = new ArrayList<> ();
     private final List<ButtonEventHandler> upEventHandlers       = new ArrayList<> ();
@@ -41,6 +43,8 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     public AbstractHwButton (final IHost host, final String label)
     {
         super (host, label);
+
+        this.longPressTimeout = host.getTimerWheel ().createTimeout (this::checkButtonState);
     }
 
 
@@ -64,7 +68,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
 
         this.state = ButtonEvent.DOWN;
         this.isConsumed = false;
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        this.longPressTimeout.schedule (BUTTON_STATE_INTERVAL);
         this.pressedVelocity = (int) (value * 127.0);
         this.command.execute (ButtonEvent.DOWN, this.pressedVelocity);
 
@@ -78,6 +82,7 @@ public abstract class AbstractHwButton extends AbstractHwInputControl implements
     protected void handleButtonRelease ()
     {
         this.state = ButtonEvent.UP;
+        this.longPressTimeout.cancel ();
         if (!this.isConsumed)
             this.command.execute (ButtonEvent.UP, 0);
 
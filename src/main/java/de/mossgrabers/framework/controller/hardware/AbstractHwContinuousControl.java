@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
@@ -21,16 +22,18 @@ import java.util.function.IntSupplier;
  */
 public abstract class AbstractHwContinuousControl extends AbstractHwInputControl implements IHwContinuousControl
 {
-    private static final int    BUTTON_STATE_INTERVAL = 400;
+    private static final int         BUTTON_STATE_INTERVAL = 400;
 
-    protected ContinuousCommand command;
-    protected TriggerCommand    touchCommand;
-    protected PitchbendCommand  pitchbendCommand;
+    protected ContinuousCommand      command;
+    protected TriggerCommand         touchCommand;
+    protected PitchbendCommand       pitchbendCommand;
 
-    protected ButtonEvent       state;
-    protected IntSupplier       supplier;
-    protected IntConsumer       consumer;
-    protected int               outputValue           = -1;
+    protected ButtonEvent            state;
+    protected IntSupplier            supplier;
+    protected IntConsumer            consumer;
+    protected int                    outputValue           = -1;
+
+    private final TimerWheel.Timeout longTouchTimeout;
 
 
     /**
@@ -42,6 +45,8 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
     public AbstractHwContinuousControl (final IHost host, final String label)
     {
         super (host, label);
+
+        this.longTouchTimeout = host.getTimerWheel ().createTimeout (this::checkButtonState);
     }
 
 
@@ -100,7 +105,10 @@ public abstract class AbstractHwContinuousControl extends AbstractHwInputControl
         if (this.touchCommand == null)
             return;
 
-        this.host.scheduleTask (this::checkButtonState, BUTTON_STATE_INTERVAL);
+        if (isDown)
+            this.longTouchTimeout.schedule (BUTTON_STATE_INTERVAL);
+        else
+            this.longTouchTimeout.cancel ();
 
         this.state = isDown ? ButtonEvent.DOWN : ButtonEvent.UP;
         this.touchCommand.execute (this.state, isDown ? 127 : 0);
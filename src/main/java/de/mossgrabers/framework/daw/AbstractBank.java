@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.observer.ItemSelectionObserver;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -26,6 +27,11 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     protected final List<T>                    items;
     protected final Set<ItemSelectionObserver> observers = new HashSet<> ();
     protected int                              pageSize;
+    /** If set, tracks the selected item, must be updated by calling notifySelectionObservers. */
+    protected IndexedFlags                     selectionIndex;
+
+    private TimerWheel.Timeout                 selectTimeout;
+    private int                                selectIndex;
 
 
     /**
@@ -58,6 +64,8 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
      */
     protected void notifySelectionObservers (final int itemIndex, final boolean isSelected)
     {
+        if (this.selectionIndex != null)
+            this.selectionIndex.set (itemIndex, isSelected);
         for (final ItemSelectionObserver observer: this.observers)
             observer.call (itemIndex, isSelected);
     }
@@ -75,6 +83,16 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     @Override
     public T getSelectedItem ()
     {
+        if (this.selectionIndex != null)
+        {
+            final int index = this.selectionIndex.getFirstIndex ();
+            if (index < 0 || index >= this.getPageSize ())
+                return null;
+            // The item might have been deselected locally
+            final T item = this.getItem (index);
+            return item.isSelected () ? item : null;
+        }
+
         for (int i = 0; i < this.getPageSize (); i++)
         {
             final T item = this.getItem (i);
@@ -108,7 +126,22 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
             return;
         final int ps = this.getPageSize ();
         this.scrollTo (position / ps * ps);
-        this.host.scheduleTask ( () -> this.getItem (position % ps).select (), 75);
+        this.selectItemDelayed (position % ps);
+    }
+
+
+    /**
+     * Select an item of the page after the DAW had some time to scroll the bank. If called again
+     * before the item is selected only the latest item gets selected.
+     *
+     * @param index The index of the item in the page
+     */
+    protected void selectItemDelayed (final int index)
+    {
+        if (this.selectTimeout == null)
+            this.selectTimeout = this.host.getTimerWheel ().createTimeout ( () -> this.getItem (this.selectIndex).select ());
+        this.selectIndex = index;
+        this.selectTimeout.schedule (75);
     }
 
 
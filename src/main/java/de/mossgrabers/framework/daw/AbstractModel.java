@@ -41,6 +41,7 @@ public abstract class AbstractModel implements IModel
     protected IBrowser                              browser;
     protected IArranger                             arranger;
     protected IMarkerBank                           markerBank;
+    protected IClipMatrixOverview                   clipMatrixOverview;
     protected ITrackBank                            currentTrackBank;
     protected ITrackBank                            trackBank;
     protected ITrackBank                            effectTrackBank;
@@ -103,6 +104,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public IClipMatrixOverview getClipMatrixOverview ()
+    {
+        return this.clipMatrixOverview;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IMixer getMixer ()
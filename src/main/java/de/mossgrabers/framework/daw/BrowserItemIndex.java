@@ -0,0 +1,198 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+
+/**
+ * A local index of the names of all items of a browser column (results or filter). Filled page by
+ * page by a crawler and searched on the client side to jump directly to an item instead of
+ * scrolling through the pages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BrowserItemIndex
+{
+    private static final String [] EMPTY      = new String [0];
+
+    private String []              names      = EMPTY;
+    private String []              lowerNames = EMPTY;
+    private int                    size;
+    private int                    loaded;
+    private boolean                isComplete;
+
+
+    /**
+     * Clear the index and prepare it for the given number of items.
+     *
+     * @param itemCount The number of items in the column
+     */
+    public synchronized void reset (final int itemCount)
+    {
+        this.size = Math.max (0, itemCount);
+        if (this.names.length < this.size)
+        {
+            this.names = new String [this.size];
+            this.lowerNames = new String [this.size];
+        }
+        else
+        {
+            Arrays.fill (this.names, null);
+            Arrays.fill (this.lowerNames, null);
+        }
+        this.loaded = 0;
+        this.isComplete = this.size == 0;
+    }
+
+
+    /**
+     * Store the name of an item.
+     *
+     * @param position The absolute position of the item in the column
+     * @param name The name of the item
+     */
+    public synchronized void set (final int position, final String name)
+    {
+        if (position < 0 || position >= this.size)
+            return;
+        if (this.names[position] == null)
+            this.loaded++;
+        this.names[position] = name == null ? "" : name;
+        this.lowerNames[position] = this.names[position].toLowerCase (Locale.US);
+    }
+
+
+    /**
+     * Mark the index as completely filled.
+     */
+    public synchronized void setComplete ()
+    {
+        this.isComplete = true;
+    }
+
+
+    /**
+     * Returns true if the names of all items have been retrieved.
+     *
+     * @return True if complete
+     */
+    public synchronized boolean isComplete ()
+    {
+        return this.isComplete;
+    }
+
+
+    /**
+     * Get the number of items in the column.
+     *
+     * @return The number of items
+     */
+    public synchronized int getSize ()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Get the number of items for which the name is already known.
+     *
+     * @return The number of indexed items
+     */
+    public synchronized int getLoaded ()
+    {
+        return this.loaded;
+    }
+
+
+    /**
+     * Get the name of an item.
+     *
+     * @param position The absolute position of the item in the column
+     * @return The name or null if not (yet) known
+     */
+    public synchronized String getName (final int position)
+    {
+        return position < 0 || position >= this.size ? null : this.names[position];
+    }
+
+
+    /**
+     * Search for an item. Items which start with the text are preferred over items which only
+     * contain the text. The search starts at the given position and wraps around. The comparison
+     * is case-insensitive.
+     *
+     * @param text The text to search for
+     * @param startPosition The position where to start the search
+     * @return The position of the found item or -1 if there is no match
+     */
+    public synchronized int search (final String text, final int startPosition)
+    {
+        if (text == null || text.isEmpty () || this.size == 0)
+            return -1;
+
+        final String lowerText = text.toLowerCase (Locale.US);
+        final int start = Math.max (0, Math.min (startPosition, this.size - 1));
+
+        for (int i = 0; i < this.size; i++)
+        {
+            final String name = this.lowerNames[(start + i) % this.size];
+            if (name != null && name.startsWith (lowerText))
+                return (start + i) % this.size;
+        }
+
+        for (int i = 0; i < this.size; i++)
+        {
+            final String name = this.lowerNames[(start + i) % this.size];
+            if (name != null && name.contains (lowerText))
+                return (start + i) % this.size;
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Find the next (or previous) item which starts with a different letter than the item at the
+     * given position. Useful to quickly jump through alphabetically sorted lists.
+     *
+     * @param position The current position
+     * @param forward Search forward if true, backwards otherwise
+     * @return The position of the found item or -1 if there is none
+     */
+    public synchronized int searchNextInitial (final int position, final boolean forward)
+    {
+        if (position < 0 || position >= this.size)
+            return -1;
+
+        final char initial = getInitial (this.lowerNames[position]);
+        final int step = forward ? 1 : -1;
+        for (int i = position + step; i >= 0 && i < this.size; i += step)
+        {
+            final String name = this.lowerNames[i];
+            if (name == null)
+                continue;
+            final char c = getInitial (name);
+            if (c == initial)
+                continue;
+
+            // Backwards: go to the first item of the previous letter
+            if (!forward)
+            {
+                while (i > 0 && this.lowerNames[i - 1] != null && getInitial (this.lowerNames[i - 1]) == c)
+                    i--;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+
+    private static char getInitial (final String name)
+    {
+        return name == null || name.isEmpty () ? 0 : name.charAt (0);
+    }
+}
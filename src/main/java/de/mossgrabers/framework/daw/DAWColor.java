@@ -72,8 +72,29 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private String  name;
-    private ColorEx color;
+    private static final DAWColor []     VALUES     = DAWColor.values ();
+
+    /** Caches the closest color ID of packed RGB values, since it is searched for each pad. */
+    private static final int             CACHE_SIZE = 256;
+    private static final ClosestColor [] CACHE      = new ClosestColor [CACHE_SIZE];
+
+    private String                       name;
+    private ColorEx                      color;
+
+
+    /** A color and its closest color ID. */
+    private static class ClosestColor
+    {
+        final int    argb;
+        final String colorID;
+
+
+        ClosestColor (final int argb, final String colorID)
+        {
+            this.argb = argb;
+            this.colorID = colorID;
+        }
+    }
 
 
     /**
@@ -132,8 +153,7 @@ public enum DAWColor
      */
     public static ColorEx getColorEntry (final int colorIndex)
     {
-        final DAWColor [] values = DAWColor.values ();
-        return values[colorIndex >= 0 && colorIndex < values.length ? colorIndex : 0].getColor ();
+        return VALUES[colorIndex >= 0 && colorIndex < VALUES.length ? colorIndex : 0].getColor ();
     }
 
 
@@ -145,7 +165,7 @@ public enum DAWColor
      */
     public static String getColorIndex (final ColorEx color)
     {
-        return getColorIndex (color.toDoubleRGB ());
+        return getColorIndex (color.toARGB ());
     }
 
 
@@ -171,19 +191,40 @@ public enum DAWColor
      */
     public static String getColorIndex (final double red, final double green, final double blue)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
+        return getColorIndex (ColorEx.toARGB (red, green, blue));
+    }
+
+
+    /**
+     * Get the color ID that is assigned to the closest given packed RGB values. The result is
+     * cached since the search is executed for each pad of a grid on each flush.
+     *
+     * @param argb The packed color as 0xAARRGGBB, the alpha value is ignored
+     * @return The ID or the COLOR_OFF ID if none is mapped
+     */
+    public static String getColorIndex (final int argb)
+    {
+        final int rgb = argb & 0xFFFFFF;
+        final int slot = (rgb ^ rgb >>> 8 ^ rgb >>> 16) & CACHE_SIZE - 1;
+        final ClosestColor cached = CACHE[slot];
+        if (cached != null && cached.argb == rgb)
+            return cached.colorID;
+
+        DAWColor cid = VALUES[0];
         double minError = 5.0;
-        final ColorEx color = new ColorEx (red, green, blue);
-        for (int i = 1; i < values.length; i++)
+        final ColorEx color = ColorEx.fromARGB (rgb);
+        for (int i = 1; i < VALUES.length; i++)
         {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color);
+            final double error = ColorEx.calcDistance (VALUES[i].getColor (), color);
             if (error < minError)
             {
-                cid = values[i];
+                cid = VALUES[i];
                 minError = error;
             }
         }
+
+        // A single reference write, therefore safe without synchronization
+        CACHE[slot] = new ClosestColor (rgb, cid.name ());
         return cid.name ();
     }
 }
@@ -244,6 +244,44 @@ public interface IBrowser extends ObserverManagement
     String getSelectedResult ();
 
 
+    /**
+     * Search the locally indexed results for the first one which starts with (or contains) the
+     * given text and select it. The search starts at the currently selected result, therefore
+     * extending the text keeps the selection as long as it still matches (type-ahead).
+     *
+     * @param text The text to search for
+     * @return True if a matching result was found
+     */
+    boolean searchResult (String text);
+
+
+    /**
+     * Select the next result which matches the text of the last search.
+     *
+     * @return True if a matching result was found
+     */
+    boolean searchNextResult ();
+
+
+    /**
+     * Select the next (or previous) result which starts with a different letter than the currently
+     * selected one.
+     *
+     * @param forward Search forward if true, backwards otherwise
+     * @return True if a result was found
+     */
+    boolean selectNextResultInitial (boolean forward);
+
+
+    /**
+     * Returns true if the names of all results have been indexed. Searching works on the already
+     * indexed results before that.
+     *
+     * @return True if the index is complete
+     */
+    boolean isResultIndexComplete ();
+
+
     /**
      * Get the number of results to display on a page.
      *
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Interface to an overview of the clip matrix of the project. Only the content and playing state of
+ * the slots are monitored and summed up for each page of the track bank, therefore it can cover
+ * much more tracks and scenes than a track bank. The overview always starts at the first track and
+ * scene.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IClipMatrixOverview
+{
+    /**
+     * Get the number of track pages covered by the overview.
+     *
+     * @return The number of track pages
+     */
+    int getNumTrackPages ();
+
+
+    /**
+     * Get the number of scene pages covered by the overview.
+     *
+     * @return The number of scene pages
+     */
+    int getNumScenePages ();
+
+
+    /**
+     * Get the number of slots with content on a page.
+     *
+     * @param trackPage The index of the track page
+     * @param scenePage The index of the scene page
+     * @return The number of slots, 0 if the page is not covered by the overview
+     */
+    int getContentCount (int trackPage, int scenePage);
+
+
+    /**
+     * Is a clip playing on a page?
+     *
+     * @param trackPage The index of the track page
+     * @param scenePage The index of the scene page
+     * @return True if at least one clip is playing, false if the page is not covered by the
+     *         overview
+     */
+    boolean isPlaying (int trackPage, int scenePage);
+
+
+    /**
+     * Enable the observers of the slots. They are disabled by default since the overview is only
+     * required while it is displayed.
+     *
+     * @param enable True to enable
+     */
+    void enableObservers (boolean enable);
+}
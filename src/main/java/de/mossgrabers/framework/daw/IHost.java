@@ -14,6 +14,8 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.FlushProfiler;
+import de.mossgrabers.framework.utils.TimerWheel;
 
 import java.util.List;
 
@@ -83,6 +85,31 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Request that the host calls flush as soon as possible, e.g. to process changes which do not
+     * stem from a DAW update.
+     */
+    void requestFlush ();
+
+
+    /**
+     * Get the timer wheel for short delays which need to be armed and cancelled frequently (e.g.
+     * long press detection). The wheel is advanced on each flush and by a host task at the next
+     * deadline.
+     *
+     * @return The timer wheel
+     */
+    TimerWheel getTimerWheel ();
+
+
+    /**
+     * Get the profiler which measures the flush cycle.
+     *
+     * @return The profiler
+     */
+    FlushProfiler getFlushProfiler ();
+
+
     /**
      * Print the error to the console.
      *
@@ -60,6 +60,14 @@ public interface IModel
     IMarkerBank getMarkerBank ();
 
 
+    /**
+     * Get the overview of the clip matrix.
+     *
+     * @return The overview or null if not enabled in the model setup
+     */
+    IClipMatrixOverview getClipMatrixOverview ();
+
+
     /**
      * Get the mixer.
      *
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw;
 
+import java.util.BitSet;
+
+
 /**
  * Interface to a clip, which contains note data.
  *
@@ -27,6 +30,16 @@ public interface INoteClip extends IClip
     int getCurrentStep ();
 
 
+    /**
+     * Get the version of the content of the clip. It is incremented whenever the state of a step
+     * (note start, continuation or off) or the loop changes. Therefore, a view can detect if only
+     * the current step has changed since it was drawn the last time.
+     *
+     * @return The content version
+     */
+    int getContentVersion ();
+
+
     /**
      * Set the length of a step.
      *
@@ -98,6 +111,58 @@ public interface INoteClip extends IClip
     void clearStep (int channel, int step, int row);
 
 
+    /**
+     * Get all notes of a step (column) which start or continue playing at the step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return The rows (notes) which are set, a copy which can be modified
+     */
+    BitSet getColumnNotes (int channel, int step);
+
+
+    /**
+     * Get the combined state of all notes of a step (column).
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one
+     *         note continues playing, otherwise NOTE_OFF, see IStepInfo
+     */
+    int getColumnState (int channel, int step);
+
+
+    /**
+     * Clear all notes at a step (column).
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     */
+    void clearColumn (int channel, int step);
+
+
+    /**
+     * Copy all notes which start at a step (column) to another step.
+     *
+     * @param channel The MIDI channel
+     * @param fromStep The step to copy from
+     * @param toStep The step to copy to
+     */
+    void copyColumn (int channel, int fromStep, int toStep);
+
+
+    /**
+     * Set several notes at a step (column), e.g. a chord.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param rows The rows (notes) to set
+     * @param velocities The velocities of the notes indexed by the row
+     * @param duration The length of the notes
+     */
+    void setColumn (int channel, int step, BitSet rows, int [] velocities, double duration);
+
+
     /**
      * If there is a note started at this position, it will update the duration of the note.
      *
@@ -305,6 +370,30 @@ public interface INoteClip extends IClip
     boolean hasRowData (int channel, int row);
 
 
+    /**
+     * Find the first step of a row which contains a note (start or continuation), starting at the
+     * given step.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step where to start the search
+     * @return The step or -1 if there is no note at or after the given step
+     */
+    int findNextStep (int channel, int row, int step);
+
+
+    /**
+     * Find the last step of a row which contains a note (start or continuation), searching
+     * backwards from the given step.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step where to start the search
+     * @return The step or -1 if there is no note at or before the given step
+     */
+    int findPreviousStep (int channel, int row, int step);
+
+
     /**
      * Get the lowest row (note) which contains data, ignores the MIDI channel.
      *
@@ -0,0 +1,104 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+
+/**
+ * Keeps track of the items of a bank (or several banks) which have a flag set, e.g. the selected
+ * item or all recording slots. The flags are updated from the observers of the items, therefore
+ * querying if any item (or which item) has the flag set does not need to check all items.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class IndexedFlags
+{
+    private final BitSet                        flags     = new BitSet ();
+    private final List<IValueObserver<Boolean>> observers = new ArrayList<> ();
+
+
+    /**
+     * Register an observer which gets notified if the first flag gets set or the last flag gets
+     * cleared.
+     *
+     * @param observer The observer, called with true if any flag is set
+     */
+    public void addObserver (final IValueObserver<Boolean> observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /**
+     * Set or clear the flag of an item.
+     *
+     * @param index The index of the item
+     * @param isSet True to set the flag
+     */
+    public void set (final int index, final boolean isSet)
+    {
+        if (index < 0 || this.flags.get (index) == isSet)
+            return;
+
+        final boolean wasAnySet = this.isAnySet ();
+        this.flags.set (index, isSet);
+        final boolean isAnySet = this.isAnySet ();
+        if (wasAnySet == isAnySet)
+            return;
+        final Boolean value = Boolean.valueOf (isAnySet);
+        for (final IValueObserver<Boolean> observer: this.observers)
+            observer.update (value);
+    }
+
+
+    /**
+     * Is the flag of an item set?
+     *
+     * @param index The index of the item
+     * @return True if set
+     */
+    public boolean isSet (final int index)
+    {
+        return index >= 0 && this.flags.get (index);
+    }
+
+
+    /**
+     * Is the flag of any item set?
+     *
+     * @return True if at least one flag is set
+     */
+    public boolean isAnySet ()
+    {
+        return !this.flags.isEmpty ();
+    }
+
+
+    /**
+     * Get the number of items which have the flag set.
+     *
+     * @return The number of items
+     */
+    public int getCount ()
+    {
+        return this.flags.cardinality ();
+    }
+
+
+    /**
+     * Get the index of the first item which has the flag set.
+     *
+     * @return The index or -1 if no flag is set
+     */
+    public int getFirstIndex ()
+    {
+        return this.flags.nextSetBit (0);
+    }
+}
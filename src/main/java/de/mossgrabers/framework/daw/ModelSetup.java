@@ -25,6 +25,8 @@ public class ModelSetup
     private int     numMarkers             = 0;
     private int     numUserPageSize        = 8;
     private int     numUserPages           = 8;
+    private int     numOverviewTracks      = 0;
+    private int     numOverviewScenes      = 0;
 
 
     /**
@@ -343,4 +345,40 @@ public class ModelSetup
     {
         this.numUserPageSize = numUserPageSize;
     }
+
+
+    /**
+     * Get the number of tracks covered by the clip matrix overview.
+     *
+     * @return The number of tracks, 0 if there is no overview
+     */
+    public int getNumOverviewTracks ()
+    {
+        return this.numOverviewTracks;
+    }
+
+
+    /**
+     * Get the number of scenes covered by the clip matrix overview.
+     *
+     * @return The number of scenes, 0 if there is no overview
+     */
+    public int getNumOverviewScenes ()
+    {
+        return this.numOverviewScenes;
+    }
+
+
+    /**
+     * Set the size of the clip matrix overview. Only the content and playing state of the slots are
+     * monitored. Set both to 0 to not create an overview (default).
+     *
+     * @param numOverviewTracks The number of tracks to cover
+     * @param numOverviewScenes The number of scenes to cover
+     */
+    public void setOverviewSize (final int numOverviewTracks, final int numOverviewScenes)
+    {
+        this.numOverviewTracks = numOverviewTracks;
+        this.numOverviewScenes = numOverviewScenes;
+    }
 }
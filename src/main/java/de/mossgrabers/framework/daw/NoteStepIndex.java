@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.BitSet;
+
+
+/**
+ * An index of the steps of a note clip which contain a note (start or continuation), separately for
+ * each MIDI channel and row. Keeps the steps of a row as a sorted bit set, therefore searching the
+ * next or previous step with a note only needs to check a few words instead of looking up each
+ * step. Additionally, keeps the rows (notes) of each step (column) as a bit set, therefore all
+ * notes of a step can be retrieved without looking up each row.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteStepIndex
+{
+    private final int       numSteps;
+    private final int       numRows;
+    private final BitSet [] rows;
+    private final BitSet [] columns;
+    private final BitSet [] columnStarts;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numChannels The number of MIDI channels
+     * @param numSteps The number of steps of the clip
+     * @param numRows The number of rows of the clip
+     */
+    public NoteStepIndex (final int numChannels, final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.rows = new BitSet [numChannels * numRows];
+        this.columns = new BitSet [numChannels * numSteps];
+        this.columnStarts = new BitSet [numChannels * numSteps];
+    }
+
+
+    /**
+     * Update the state of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @param state The state of the step, see IStepInfo
+     */
+    public synchronized void set (final int channel, final int step, final int row, final int state)
+    {
+        final int index = this.getIndex (channel, row);
+        final int columnIndex = this.getColumnIndex (channel, step);
+        if (index < 0 || columnIndex < 0)
+            return;
+
+        final boolean hasNote = state != IStepInfo.NOTE_OFF;
+        update (this.rows, index, step, hasNote);
+        update (this.columns, columnIndex, row, hasNote);
+        update (this.columnStarts, columnIndex, row, state == IStepInfo.NOTE_START);
+    }
+
+
+    /**
+     * Get the first step which contains a note, starting at the given step.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step where to start the search
+     * @return The step or -1 if there is no note at or after the given step
+     */
+    public synchronized int getNextStep (final int channel, final int row, final int step)
+    {
+        final BitSet steps = this.getSteps (channel, row);
+        return steps == null ? -1 : steps.nextSetBit (Math.max (0, step));
+    }
+
+
+    /**
+     * Get the last step which contains a note, starting backwards at the given step.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @param step The step where to start the search
+     * @return The step or -1 if there is no note at or before the given step
+     */
+    public synchronized int getPreviousStep (final int channel, final int row, final int step)
+    {
+        final BitSet steps = this.getSteps (channel, row);
+        return steps == null || step < 0 ? -1 : steps.previousSetBit (step);
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @return True if it contains at least one note
+     */
+    public synchronized boolean hasNotes (final int channel, final int row)
+    {
+        final BitSet steps = this.getSteps (channel, row);
+        return isSet (steps);
+    }
+
+
+    /**
+     * Get the rows of a step which contain a note (start or continuation).
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return A copy of the rows
+     */
+    public synchronized BitSet getNotes (final int channel, final int step)
+    {
+        final int index = this.getColumnIndex (channel, step);
+        final BitSet notes = index < 0 ? null : this.columns[index];
+        return notes == null ? new BitSet () : (BitSet) notes.clone ();
+    }
+
+
+    /**
+     * Get the combined state of all notes of a step.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one
+     *         note continues playing, otherwise NOTE_OFF, see IStepInfo
+     */
+    public synchronized int getState (final int channel, final int step)
+    {
+        final int index = this.getColumnIndex (channel, step);
+        if (index < 0)
+            return IStepInfo.NOTE_OFF;
+        if (isSet (this.columnStarts[index]))
+            return IStepInfo.NOTE_START;
+        return isSet (this.columns[index]) ? IStepInfo.NOTE_CONTINUE : IStepInfo.NOTE_OFF;
+    }
+
+
+    private static void update (final BitSet [] bitSets, final int index, final int bit, final boolean value)
+    {
+        BitSet bitSet = bitSets[index];
+        if (bitSet == null)
+        {
+            if (!value)
+                return;
+            bitSet = new BitSet ();
+            bitSets[index] = bitSet;
+        }
+        bitSet.set (bit, value);
+    }
+
+
+    private static boolean isSet (final BitSet bitSet)
+    {
+        return bitSet != null && !bitSet.isEmpty ();
+    }
+
+
+    private BitSet getSteps (final int channel, final int row)
+    {
+        final int index = this.getIndex (channel, row);
+        return index < 0 ? null : this.rows[index];
+    }
+
+
+    private int getIndex (final int channel, final int row)
+    {
+        if (row < 0 || row >= this.numRows)
+            return -1;
+        final int index = channel * this.numRows + row;
+        return index < 0 || index >= this.rows.length ? -1 : index;
+    }
+
+
+    private int getColumnIndex (final int channel, final int step)
+    {
+        if (step < 0 || step >= this.numSteps)
+            return -1;
+        final int index = channel * this.numSteps + step;
+        return index < 0 || index >= this.columns.length ? -1 : index;
+    }
+}
@@ -96,4 +96,22 @@ public interface IBrowserColumn extends IItem
      * @param index The new index
      */
     void setCursorIndex (int index);
+
+
+    /**
+     * Search the locally indexed items of the column for the first one which starts with (or
+     * contains) the given text and select it. The search starts at the currently selected item.
+     *
+     * @param text The text to search for
+     * @return True if a matching item was found
+     */
+    boolean searchItem (String text);
+
+
+    /**
+     * Select the next item which matches the text of the last search.
+     *
+     * @return True if a matching item was found
+     */
+    boolean searchNextItem ();
 }
\ No newline at end of file
@@ -197,6 +197,15 @@ public interface IChannel extends IItem
     ColorEx getColor ();
 
 
+    /**
+     * Get the color of the channel as a packed integer. In contrast to getColor no object is
+     * created, therefore use it on paths which are executed for each pad on each flush.
+     *
+     * @return The color as 0xAARRGGBB
+     */
+    int getColorARGB ();
+
+
     /**
      * Set the color of the channel as a RGB value.
      *
@@ -119,6 +119,14 @@ public class EmptyChannel extends EmptyItem implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getColorARGB ()
+    {
+        return ColorEx.BLACK_ARGB;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isMute ()
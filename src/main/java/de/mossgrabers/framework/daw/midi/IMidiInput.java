@@ -35,6 +35,14 @@ public interface IMidiInput
     void setSysexCallback (MidiSysExCallback callback);
 
 
+    /**
+     * Get the recorder which forwards the received messages to the callbacks.
+     *
+     * @return The recorder
+     */
+    MidiInputRecorder getRecorder ();
+
+
     /**
      * Create a note input.
      *
@@ -0,0 +1,244 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * A recording of incoming MIDI messages with their time of arrival. Can be stored in and loaded
+ * from a text file with one message per line: the time in microseconds since the start of the
+ * recording followed by the 3 bytes of a short message in hex or by SYSEX and the system exclusive
+ * data, e.g.:
+ *
+ * <pre>
+ * 1250 90 3C 7F
+ * 20400 SYSEX f0002109000044430100f7
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiCapture
+{
+    /** The maximum number of recorded messages, further messages are ignored. */
+    public static final int     MAX_EVENTS = 100000;
+
+    private static final String HEADER     = "# DrivenByMoss MIDI capture";
+    private static final String SYSEX      = "SYSEX";
+
+
+    /** A recorded message. */
+    public static class Event
+    {
+        private final long   time;
+        private final int    status;
+        private final int    data1;
+        private final int    data2;
+        private final String sysex;
+
+
+        Event (final long time, final int status, final int data1, final int data2, final String sysex)
+        {
+            this.time = time;
+            this.status = status;
+            this.data1 = data1;
+            this.data2 = data2;
+            this.sysex = sysex;
+        }
+
+
+        /**
+         * Get the time of arrival.
+         *
+         * @return The time in nanoseconds since the start of the recording
+         */
+        public long getTime ()
+        {
+            return this.time;
+        }
+
+
+        /**
+         * Get the status byte of a short message.
+         *
+         * @return The status byte
+         */
+        public int getStatus ()
+        {
+            return this.status;
+        }
+
+
+        /**
+         * Get the first data byte of a short message.
+         *
+         * @return The data byte
+         */
+        public int getData1 ()
+        {
+            return this.data1;
+        }
+
+
+        /**
+         * Get the second data byte of a short message.
+         *
+         * @return The data byte
+         */
+        public int getData2 ()
+        {
+            return this.data2;
+        }
+
+
+        /**
+         * Get the data of a system exclusive message.
+         *
+         * @return The data formatted in hex or null if it is a short message
+         */
+        public String getSysex ()
+        {
+            return this.sysex;
+        }
+    }
+
+
+    private final List<Event>   events     = new ArrayList<> ();
+    private boolean             isFull;
+
+
+    /**
+     * Add a short message.
+     *
+     * @param time The time of arrival in nanoseconds since the start of the recording
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public synchronized void addMidi (final long time, final int status, final int data1, final int data2)
+    {
+        this.add (new Event (time, status, data1, data2, null));
+    }
+
+
+    /**
+     * Add a system exclusive message.
+     *
+     * @param time The time of arrival in nanoseconds since the start of the recording
+     * @param data The data formatted in hex
+     */
+    public synchronized void addSysex (final long time, final String data)
+    {
+        this.add (new Event (time, 0, 0, 0, data));
+    }
+
+
+    /**
+     * Returns true if the maximum number of messages was reached and further messages were
+     * ignored.
+     *
+     * @return True if full
+     */
+    public synchronized boolean isFull ()
+    {
+        return this.isFull;
+    }
+
+
+    /**
+     * Get all recorded messages in the order of their arrival.
+     *
+     * @return The messages
+     */
+    public synchronized List<Event> getEvents ()
+    {
+        return Collections.unmodifiableList (new ArrayList<> (this.events));
+    }
+
+
+    private void add (final Event event)
+    {
+        if (this.events.size () < MAX_EVENTS)
+            this.events.add (event);
+        else
+            this.isFull = true;
+    }
+
+
+    /**
+     * Store the recording in a text file.
+     *
+     * @param file The file
+     * @throws IOException Could not write the file
+     */
+    public synchronized void save (final File file) throws IOException
+    {
+        try (final BufferedWriter writer = Files.newBufferedWriter (file.toPath (), StandardCharsets.US_ASCII))
+        {
+            writer.write (HEADER);
+            writer.newLine ();
+            for (final Event event: this.events)
+            {
+                final long micros = event.time / 1000;
+                if (event.sysex == null)
+                    writer.write (String.format (Locale.US, "%d %02X %02X %02X", Long.valueOf (micros), Integer.valueOf (event.status), Integer.valueOf (event.data1), Integer.valueOf (event.data2)));
+                else
+                    writer.write (micros + " " + SYSEX + " " + event.sysex);
+                writer.newLine ();
+            }
+        }
+    }
+
+
+    /**
+     * Load a recording from a text file.
+     *
+     * @param file The file
+     * @return The loaded recording
+     * @throws IOException Could not read the file or it has a wrong format
+     */
+    public static MidiCapture load (final File file) throws IOException
+    {
+        final MidiCapture capture = new MidiCapture ();
+        try (final BufferedReader reader = Files.newBufferedReader (file.toPath (), StandardCharsets.US_ASCII))
+        {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine ()) != null)
+            {
+                lineNumber++;
+                line = line.trim ();
+                if (line.isEmpty () || line.startsWith ("#"))
+                    continue;
+
+                final String [] parts = line.split ("\\s+");
+                try
+                {
+                    final long time = Long.parseLong (parts[0]) * 1000;
+                    if (parts.length == 3 && SYSEX.equals (parts[1]))
+                        capture.addSysex (time, parts[2]);
+                    else if (parts.length == 4)
+                        capture.addMidi (time, Integer.parseInt (parts[1], 16), Integer.parseInt (parts[2], 16), Integer.parseInt (parts[3], 16));
+                    else
+                        throw new IOException ("Wrong number of values in line " + lineNumber + " of " + file);
+                }
+                catch (final NumberFormatException ex)
+                {
+                    throw new IOException ("Wrong number in line " + lineNumber + " of " + file, ex);
+                }
+            }
+        }
+        return capture;
+    }
+}
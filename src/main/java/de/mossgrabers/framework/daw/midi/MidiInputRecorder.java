@@ -0,0 +1,108 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Sits between a MIDI input port and the callbacks of the control surface. Forwards all received
+ * messages and records them with their time of arrival while a recording is active. Recorded
+ * messages can be fed back into the callbacks with a {@link MidiReplayer}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiInputRecorder
+{
+    private MidiShortCallback    midiCallback;
+    private MidiSysExCallback    sysexCallback;
+    private volatile MidiCapture capture;
+    private long                 startTime;
+
+
+    /**
+     * Set the callback for short messages.
+     *
+     * @param callback The callback
+     */
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /**
+     * Set the callback for system exclusive messages.
+     *
+     * @param callback The callback
+     */
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /**
+     * Start a new recording.
+     */
+    public void startRecording ()
+    {
+        this.startTime = System.nanoTime ();
+        this.capture = new MidiCapture ();
+    }
+
+
+    /**
+     * Stop the recording.
+     *
+     * @return The recorded messages or null if no recording was active
+     */
+    public MidiCapture stopRecording ()
+    {
+        final MidiCapture result = this.capture;
+        this.capture = null;
+        return result;
+    }
+
+
+    /**
+     * Returns true if a recording is active.
+     *
+     * @return True if recording
+     */
+    public boolean isRecording ()
+    {
+        return this.capture != null;
+    }
+
+
+    /**
+     * Handle a received short message.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void handleMidi (final int status, final int data1, final int data2)
+    {
+        final MidiCapture c = this.capture;
+        if (c != null)
+            c.addMidi (System.nanoTime () - this.startTime, status, data1, data2);
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Handle a received system exclusive message.
+     *
+     * @param data The data formatted in hex
+     */
+    public void handleSysex (final String data)
+    {
+        final MidiCapture c = this.capture;
+        if (c != null)
+            c.addSysex (System.nanoTime () - this.startTime, data);
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+}
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.utils.FlushProfiler;
+
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Feeds a recorded MIDI capture into the callbacks of an input at the original or an accelerated
+ * speed. The messages are executed on the controller thread like received ones. Measures the time
+ * to handle each message and how late it was executed. The flush profiler is enabled during the
+ * replay, therefore its summary at the end also shows the timings of the flushes and the output
+ * MIDI messages caused by the replayed input.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MidiReplayer
+{
+    private final IHost                   host;
+    private final MidiInputRecorder       recorder;
+    private final List<MidiCapture.Event> events;
+    private final double                  speed;
+
+    private int                           position;
+    private long                          startTime;
+    private boolean                       wasProfilerEnabled;
+    private boolean                       isFinished;
+
+    private long                          totalHandlingTime;
+    private long                          maxHandlingTime;
+    private long                          maxLateness;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param recorder The recorder of the input which forwards the messages to the callbacks
+     * @param capture The messages to replay
+     * @param speed The speed factor, 1 is the original speed, e.g. 4 is 4 times faster
+     */
+    public MidiReplayer (final IHost host, final MidiInputRecorder recorder, final MidiCapture capture, final double speed)
+    {
+        this.host = host;
+        this.recorder = recorder;
+        this.events = capture.getEvents ();
+        this.speed = Math.max (0.01, speed);
+    }
+
+
+    /**
+     * Start the replay.
+     */
+    public void start ()
+    {
+        final FlushProfiler profiler = this.host.getFlushProfiler ();
+        this.wasProfilerEnabled = profiler.isEnabled ();
+        profiler.setEnabled (true);
+        // Reset the statistics
+        profiler.getSummary ();
+
+        this.host.println (String.format (Locale.US, "Replaying %d MIDI messages at %.1fx speed...", Integer.valueOf (this.events.size ()), Double.valueOf (this.speed)));
+        this.position = 0;
+        this.startTime = System.nanoTime ();
+        this.replayDueEvents ();
+    }
+
+
+    /**
+     * Stop the replay. Prints the results and restores the state of the profiler immediately,
+     * therefore a new replay can be started right afterwards.
+     */
+    public void cancel ()
+    {
+        this.finish ();
+    }
+
+
+    /**
+     * Execute all messages which are due and schedule the next execution.
+     */
+    private void replayDueEvents ()
+    {
+        // Cancelled in the meantime
+        if (this.isFinished)
+            return;
+
+        final long elapsed = System.nanoTime () - this.startTime;
+        while (this.position < this.events.size ())
+        {
+            final MidiCapture.Event event = this.events.get (this.position);
+            final long dueTime = (long) (event.getTime () / this.speed);
+            if (dueTime > elapsed)
+            {
+                this.host.scheduleTask (this::replayDueEvents, Math.max (1, (dueTime - elapsed) / 1000000));
+                return;
+            }
+
+            this.maxLateness = Math.max (this.maxLateness, elapsed - dueTime);
+
+            final long start = System.nanoTime ();
+            try
+            {
+                if (event.getSysex () == null)
+                    this.recorder.handleMidi (event.getStatus (), event.getData1 (), event.getData2 ());
+                else
+                    this.recorder.handleSysex (event.getSysex ());
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Error during replay of MIDI message " + this.position + ".", ex);
+            }
+            final long duration = System.nanoTime () - start;
+            this.totalHandlingTime += duration;
+            this.maxHandlingTime = Math.max (this.maxHandlingTime, duration);
+
+            this.position++;
+        }
+
+        this.finish ();
+    }
+
+
+    private void finish ()
+    {
+        if (this.isFinished)
+            return;
+        this.isFinished = true;
+
+        final FlushProfiler profiler = this.host.getFlushProfiler ();
+        final double seconds = (System.nanoTime () - this.startTime) / 1000000000.0;
+        final double average = this.position == 0 ? 0 : this.totalHandlingTime / (double) this.position / 1000000.0;
+        this.host.println (String.format (Locale.US, "Replayed %d MIDI messages in %.1f s: handling avg %.3f ms, max %.3f ms, max lateness %.3f ms", Integer.valueOf (this.position), Double.valueOf (seconds), Double.valueOf (average), Double.valueOf (this.maxHandlingTime / 1000000.0), Double.valueOf (this.maxLateness / 1000000.0)));
+        this.host.println (profiler.getSummary ());
+        profiler.setEnabled (this.wasProfilerEnabled);
+    }
+}
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Keeps the recently used key and velocity translation tables of note inputs. Tables with the same
+ * content (e.g. the same scale, layout and octave) are shared and boxed only once. Since the
+ * shared instance of a table is always the same, a note input can also detect cheaply that a table
+ * has not changed and skip sending it to the DAW again.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class TranslationTableRegistry
+{
+    private static final int      MAX_TABLES = 64;
+
+    private static final Table [] TABLES     = new Table [MAX_TABLES];
+    private static int            nextIndex  = 0;
+
+
+    /**
+     * A shared translation table.
+     */
+    public static final class Table
+    {
+        private final int        hash;
+        private final int []     values;
+        private final Integer [] boxedValues;
+
+
+        Table (final int hash, final int [] values)
+        {
+            this.hash = hash;
+            this.values = values;
+            this.boxedValues = new Integer [values.length];
+            for (int i = 0; i < values.length; i++)
+                this.boxedValues[i] = Integer.valueOf (values[i]);
+        }
+
+
+        /**
+         * Get the values of the table. Must not be modified.
+         *
+         * @return The values
+         */
+        public int [] getValues ()
+        {
+            return this.values;
+        }
+
+
+        /**
+         * Get the boxed values of the table as required by the note input. Must not be modified.
+         *
+         * @return The boxed values
+         */
+        public Integer [] getBoxedValues ()
+        {
+            return this.boxedValues;
+        }
+    }
+
+
+    /**
+     * Get the shared table with the same content as the given one. If there is none yet, a copy of
+     * the given table is stored. If the registry is full the oldest table is replaced.
+     *
+     * @param values The values of the table
+     * @return The shared table
+     */
+    public static synchronized Table get (final int [] values)
+    {
+        final int hash = Arrays.hashCode (values);
+        for (final Table table: TABLES)
+        {
+            if (table != null && table.hash == hash && Arrays.equals (table.values, values))
+                return table;
+        }
+
+        final Table table = new Table (hash, values.clone ());
+        TABLES[nextIndex] = table;
+        nextIndex = (nextIndex + 1) % MAX_TABLES;
+        return table;
+    }
+
+
+    /**
+     * Private due to utility class.
+     */
+    private TranslationTableRegistry ()
+    {
+        // Intentionally empty
+    }
+}
@@ -4,7 +4,9 @@
 
 package de.mossgrabers.framework.daw.resource;
 
+import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
 
 import java.util.HashMap;
@@ -12,13 +14,15 @@ import java.util.Map;
 
 
 /**
- * Get and cache some resources like SVG images.
+ * Get and cache some resources like SVG images. Images are loaded on first use. Images which are
+ * masked with a color are additionally cached as pre-rendered bitmaps.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public final class ResourceHandler
 {
-    private static final Map<String, IImage> CACHE = new HashMap<> ();
+    private static final Map<String, IImage> CACHE        = new HashMap<> ();
+    private static final TintedImageCache    TINTED_CACHE = new TintedImageCache ();
     private static IHost                     theHost;
 
 
@@ -27,61 +31,61 @@ public final class ResourceHandler
      *
      * @param host The controller host
      */
-    public static void init (final IHost host)
+    public static synchronized void init (final IHost host)
     {
-        theHost = host;
+        if (theHost == host)
+            return;
 
-        addSVGImage ("channel/mute.svg");
-        addSVGImage ("channel/record_arm.svg");
-        addSVGImage ("channel/solo.svg");
-        addSVGImage ("channel/solo.svg");
-
-        addSVGImage ("track/audio_track.svg");
-        addSVGImage ("track/crossfade_a.svg");
-        addSVGImage ("track/crossfade_ab.svg");
-        addSVGImage ("track/crossfade_b.svg");
-        addSVGImage ("track/group_track.svg");
-        addSVGImage ("track/hybrid_track.svg");
-        addSVGImage ("track/instrument_track.svg");
-        addSVGImage ("track/master_track.svg");
-        addSVGImage ("track/multi_layer.svg");
-        addSVGImage ("track/return_track.svg");
-
-        addSVGImage ("device/device_analysis.svg");
-        addSVGImage ("device/device_audio.svg");
-        addSVGImage ("device/device_container.svg");
-        addSVGImage ("device/device_drum_machine.svg");
-        addSVGImage ("device/device_drum_module.svg");
-        addSVGImage ("device/device_generic.svg");
-        addSVGImage ("device/device_instrument.svg");
-        addSVGImage ("device/device_io.svg");
-        addSVGImage ("device/device_note.svg");
-        addSVGImage ("device/device_plugin.svg");
-
-        addSVGImage ("user.svg");
+        // The images of a different host are freed when its extension exits
+        theHost = host;
+        CACHE.clear ();
+        TINTED_CACHE.clear ();
     }
 
 
     /**
-     * Get a SVG image as an Image object.
+     * Get a SVG image as an Image object. Loads the image if not already cached.
      *
      * @param imageName The name of the image
      * @return The buffered image
      */
-    public static IImage getSVGImage (final String imageName)
+    public static synchronized IImage getSVGImage (final String imageName)
     {
-        return CACHE.get (imageName);
+        return CACHE.computeIfAbsent (imageName, name -> theHost.loadSVG (name, 1));
     }
 
 
     /**
-     * Load and cache an image.
+     * Get a SVG image masked with a color. The result is a pre-rendered bitmap which can be drawn
+     * with IGraphicsContext.drawImage.
      *
-     * @param imageName The name (absolute path) of the image
+     * @param imageName The name of the image
+     * @param color The color to mask the image with
+     * @return The bitmap or null if the memory budget of the cache is used up, in that case use
+     *         IGraphicsContext.maskImage with the image from getSVGImage
+     */
+    public static synchronized IImage getTintedSVGImage (final String imageName, final ColorEx color)
+    {
+        return TINTED_CACHE.get (theHost, imageName, getSVGImage (imageName), color);
+    }
+
+
+    /**
+     * Draw a SVG image masked with a color. Uses the pre-rendered bitmap if available.
+     *
+     * @param gc The graphics context to draw into
+     * @param imageName The name of the image
+     * @param x The x position of the image
+     * @param y The y position of the image
+     * @param color The color to mask the image with
      */
-    public static void addSVGImage (final String imageName)
+    public static void drawTintedSVGImage (final IGraphicsContext gc, final String imageName, final double x, final double y, final ColorEx color)
     {
-        CACHE.put (imageName, theHost.loadSVG (imageName, 1));
+        final IImage tintedImage = getTintedSVGImage (imageName, color);
+        if (tintedImage == null)
+            gc.maskImage (getSVGImage (imageName), x, y, color);
+        else
+            gc.drawImage (tintedImage, x, y);
     }
 
 
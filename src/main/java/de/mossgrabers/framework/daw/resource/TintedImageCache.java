@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.resource;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Caches images which are masked with a color as pre-rendered bitmaps. Drawing such a bitmap is a
+ * simple copy of its (premultiplied) pixels instead of masking the image with the color on each
+ * frame. The bitmaps are created on first use. Since the memory of a bitmap is only released when
+ * the extension exits, entries are never evicted; instead no more bitmaps are created when the
+ * memory budget is used up and the caller has to fall back to masking the image.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class TintedImageCache
+{
+    /** The maximum number of bytes used by all cached bitmaps. */
+    private static final int                MAX_BYTES = 2 * 1024 * 1024;
+
+    private final Map<String, TintedImages> cache     = new HashMap<> ();
+    private int                             usedBytes;
+
+
+    /** The tinted bitmaps of one image. */
+    private static class TintedImages
+    {
+        private int []    colors = new int [0];
+        private IImage [] images = new IImage [0];
+
+
+        IImage get (final int color)
+        {
+            for (int i = 0; i < this.colors.length; i++)
+            {
+                if (this.colors[i] == color)
+                    return this.images[i];
+            }
+            return null;
+        }
+
+
+        void add (final int color, final IImage image)
+        {
+            final int length = this.colors.length;
+            this.colors = Arrays.copyOf (this.colors, length + 1);
+            this.images = Arrays.copyOf (this.images, length + 1);
+            this.colors[length] = color;
+            this.images[length] = image;
+        }
+    }
+
+
+    /**
+     * Get the image masked with the color. Renders it into a bitmap if not already cached.
+     *
+     * @param host The host for creating the bitmap
+     * @param imageName The name of the image
+     * @param image The image
+     * @param color The color to mask the image with
+     * @return The bitmap or null if the memory budget is used up
+     */
+    synchronized IImage get (final IHost host, final String imageName, final IImage image, final ColorEx color)
+    {
+        final int argb = color.toARGB ();
+        final TintedImages tintedImages = this.cache.computeIfAbsent (imageName, name -> new TintedImages ());
+        final IImage tintedImage = tintedImages.get (argb);
+        if (tintedImage != null)
+            return tintedImage;
+
+        final int width = (int) Math.ceil (image.getWidth ());
+        final int height = image.getHeight ();
+        final int size = width * height * 4;
+        if (width <= 0 || height <= 0 || this.usedBytes + size > MAX_BYTES)
+            return null;
+
+        final IBitmap bitmap = host.createBitmap (width, height);
+        bitmap.render (true, gc -> {
+            // The memory of a new bitmap is not initialized
+            gc.clearRectangle (0, 0, width, height);
+            gc.maskImage (image, 0, 0, color);
+        });
+        this.usedBytes += size;
+        tintedImages.add (argb, bitmap);
+        return bitmap;
+    }
+
+
+    /**
+     * Remove all bitmaps.
+     */
+    synchronized void clear ()
+    {
+        this.cache.clear ();
+        this.usedBytes = 0;
+    }
+}
@@ -26,6 +26,17 @@ public interface IGraphicsContext
     void fillRectangle (double left, double top, double width, double height, ColorEx color);
 
 
+    /**
+     * Clear a rectangle to fully transparent.
+     *
+     * @param left The left position of the rectangle
+     * @param top The top position of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     */
+    void clearRectangle (double left, double top, double width, double height);
+
+
     /**
      * Draw a rectangle.
      *
@@ -173,11 +173,11 @@ public class ChannelComponent extends ChannelSelectComponent
             final ColorEx selColor = this.editType == EDIT_TYPE_CROSSFADER || this.editType == EDIT_TYPE_ALL ? editColor : textColor;
 
             final IImage crossfaderAIcon = ResourceHandler.getSVGImage ("track/crossfade_a.svg");
-            gc.maskImage (crossfaderAIcon, left + inset + (crossWidth - crossfaderAIcon.getWidth ()) / 2, controlsTop + (panHeight - crossfaderAIcon.getHeight ()) / 2, this.crossfadeMode == 0 ? selColor : backgroundDarker);
-            final IImage crossfaderABIcon = ResourceHandler.getSVGImage ("track/crossfade_ab.svg");
-            gc.maskImage (crossfaderABIcon, crossWidth + left + inset + (crossWidth - crossfaderAIcon.getWidth ()) / 2, controlsTop + (panHeight - crossfaderAIcon.getHeight ()) / 2, this.crossfadeMode == 1 ? selColor : backgroundDarker);
-            final IImage crossfaderBIcon = ResourceHandler.getSVGImage ("track/crossfade_b.svg");
-            gc.maskImage (crossfaderBIcon, 2 * crossWidth + left + inset + (crossWidth - crossfaderAIcon.getWidth ()) / 2, controlsTop + (panHeight - crossfaderAIcon.getHeight ()) / 2, this.crossfadeMode == 2 ? selColor : backgroundDarker);
+            final double iconLeft = left + inset + (crossWidth - crossfaderAIcon.getWidth ()) / 2;
+            final double iconTop = controlsTop + (panHeight - crossfaderAIcon.getHeight ()) / 2;
+            ResourceHandler.drawTintedSVGImage (gc, "track/crossfade_a.svg", iconLeft, iconTop, this.crossfadeMode == 0 ? selColor : backgroundDarker);
+            ResourceHandler.drawTintedSVGImage (gc, "track/crossfade_ab.svg", crossWidth + iconLeft, iconTop, this.crossfadeMode == 1 ? selColor : backgroundDarker);
+            ResourceHandler.drawTintedSVGImage (gc, "track/crossfade_b.svg", 2 * crossWidth + iconLeft, iconTop, this.crossfadeMode == 2 ? selColor : backgroundDarker);
         }
 
         // Panorama
@@ -301,7 +301,7 @@ public class ChannelComponent extends ChannelSelectComponent
             gc.fillGradientRoundedRectangle (left + 1, top + 1, width - 2, height - 2, radius, backgroundColor, ColorEx.brighter (backgroundColor));
 
         final IImage icon = ResourceHandler.getSVGImage (iconName);
-        gc.maskImage (icon, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
+        ResourceHandler.drawTintedSVGImage (gc, iconName, left + (width - icon.getWidth ()) / 2, top + (height - icon.getHeight ()) / 2, isOn ? borderColor : textColor);
     }
 
 
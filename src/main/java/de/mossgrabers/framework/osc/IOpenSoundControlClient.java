@@ -31,4 +31,10 @@ public interface IOpenSoundControlClient
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Close the connection and release all resources.
+     */
+    void close ();
 }
@@ -0,0 +1,290 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Encodes OSC messages and bundles into their binary representation. Since the exact size of each
+ * message is known, bundles can be packed up to a maximum packet size.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlEncoder
+{
+    /** The size of the bundle header: the #bundle tag and the time tag. */
+    public static final int      BUNDLE_HEADER_SIZE = 16;
+
+    private static final byte [] BUNDLE_TAG         = "#bundle\0".getBytes (StandardCharsets.US_ASCII);
+    /** The special time tag value which means 'immediately'. */
+    private static final long    IMMEDIATELY        = 1;
+
+    private ByteBuffer           messageBuffer      = ByteBuffer.allocate (1024);
+
+
+    /**
+     * Encode a message. The returned buffer is re-used and only valid until the next call.
+     *
+     * @param message The message to encode
+     * @return The buffer containing the encoded message between position and limit
+     */
+    public ByteBuffer encodeMessage (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        final int numValues = values == null ? 0 : values.length;
+
+        final byte [] address = message.getAddress ().getBytes (StandardCharsets.UTF_8);
+        final byte [] typeTags = new byte [numValues + 1];
+        typeTags[0] = ',';
+        int size = getPaddedSize (address.length) + getPaddedSize (typeTags.length);
+
+        // Type tags and size of the arguments
+        final byte [][] strings = new byte [numValues] [];
+        for (int i = 0; i < numValues; i++)
+        {
+            final byte typeTag = getTypeTag (values[i]);
+            typeTags[i + 1] = typeTag;
+            if (typeTag == 's')
+            {
+                strings[i] = values[i].toString ().getBytes (StandardCharsets.UTF_8);
+                size += getPaddedSize (strings[i].length);
+            }
+            else
+                size += getArgumentSize (typeTag, values[i]);
+        }
+
+        final ByteBuffer buffer = this.getMessageBuffer (size);
+        writeString (buffer, address);
+        writeString (buffer, typeTags);
+        for (int i = 0; i < numValues; i++)
+        {
+            switch (typeTags[i + 1])
+            {
+                case 'i':
+                    buffer.putInt (((Number) values[i]).intValue ());
+                    break;
+                case 'h':
+                    buffer.putLong (((Long) values[i]).longValue ());
+                    break;
+                case 'f':
+                    buffer.putFloat (((Number) values[i]).floatValue ());
+                    break;
+                case 'b':
+                    final byte [] blob = (byte []) values[i];
+                    buffer.putInt (blob.length);
+                    buffer.put (blob);
+                    pad (buffer, blob.length);
+                    break;
+                case 's':
+                    writeString (buffer, strings[i]);
+                    break;
+                default:
+                    // No data for T, F and N
+                    break;
+            }
+        }
+        buffer.flip ();
+        return buffer;
+    }
+
+
+    /**
+     * Encode several messages into packets. As many messages as possible are packed into a bundle
+     * of the maximum packet size. A message which does not fit into a bundle by itself is put into
+     * a packet of its own, without a bundle.
+     *
+     * @param messages The messages to encode
+     * @param maxPacketSize The maximum size of a packet in bytes
+     * @return The encoded packets
+     */
+    public List<byte []> encodeBundles (final List<IOpenSoundControlMessage> messages, final int maxPacketSize)
+    {
+        final List<byte []> packets = new ArrayList<> ();
+        final ByteBuffer packet = ByteBuffer.allocate (maxPacketSize);
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final ByteBuffer encoded = this.encodeMessage (message);
+            final int size = encoded.remaining ();
+            if (BUNDLE_HEADER_SIZE + 4 + size > maxPacketSize)
+            {
+                addPacket (packets, packet);
+                final byte [] single = new byte [size];
+                encoded.get (single);
+                packets.add (single);
+                continue;
+            }
+
+            if (packet.remaining () < 4 + size)
+                addPacket (packets, packet);
+            if (packet.position () == 0)
+            {
+                packet.put (BUNDLE_TAG);
+                packet.putLong (IMMEDIATELY);
+            }
+            packet.putInt (size);
+            packet.put (encoded);
+        }
+        addPacket (packets, packet);
+        return packets;
+    }
+
+
+    /**
+     * Get the size of a message element when encoded as a bundle element, including its size
+     * prefix. The size is calculated without encoding the message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getBundleElementSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        final int numValues = values == null ? 0 : values.length;
+
+        int size = 4 + getPaddedSize (getUTF8Length (message.getAddress ())) + getPaddedSize (numValues + 1);
+        for (int i = 0; i < numValues; i++)
+        {
+            final byte typeTag = getTypeTag (values[i]);
+            size += typeTag == 's' ? getPaddedSize (getUTF8Length (values[i].toString ())) : getArgumentSize (typeTag, values[i]);
+        }
+        return size;
+    }
+
+
+    /**
+     * Get the OSC type tag for a value.
+     *
+     * @param value The value
+     * @return The type tag
+     */
+    private static byte getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? (byte) 'T' : (byte) 'F';
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return 'i';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof Number)
+            return 'f';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    /**
+     * Get the encoded size of a non-string argument.
+     *
+     * @param typeTag The type tag of the argument
+     * @param value The value of the argument
+     * @return The size in bytes
+     */
+    private static int getArgumentSize (final byte typeTag, final Object value)
+    {
+        switch (typeTag)
+        {
+            case 'i':
+            case 'f':
+                return 4;
+            case 'h':
+                return 8;
+            case 'b':
+                return 4 + getPaddedSize (((byte []) value).length, false);
+            default:
+                // No data for T, F and N
+                return 0;
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of a text encoded as UTF-8 without encoding it.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    private static int getUTF8Length (final String text)
+    {
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate (c) && i + 1 < text.length () && Character.isLowSurrogate (text.charAt (i + 1)))
+            {
+                length += 4;
+                i++;
+            }
+            else
+                length += 3;
+        }
+        return length;
+    }
+
+
+    private ByteBuffer getMessageBuffer (final int size)
+    {
+        if (this.messageBuffer.capacity () < size)
+            this.messageBuffer = ByteBuffer.allocate (Math.max (size, 2 * this.messageBuffer.capacity ()));
+        this.messageBuffer.clear ();
+        return this.messageBuffer;
+    }
+
+
+    private static void addPacket (final List<byte []> packets, final ByteBuffer packet)
+    {
+        if (packet.position () == 0)
+            return;
+        packet.flip ();
+        final byte [] data = new byte [packet.remaining ()];
+        packet.get (data);
+        packets.add (data);
+        packet.clear ();
+    }
+
+
+    private static void writeString (final ByteBuffer buffer, final byte [] text)
+    {
+        buffer.put (text);
+        buffer.put ((byte) 0);
+        pad (buffer, text.length + 1);
+    }
+
+
+    private static void pad (final ByteBuffer buffer, final int length)
+    {
+        for (int i = length; i % 4 != 0; i++)
+            buffer.put ((byte) 0);
+    }
+
+
+    /**
+     * Get the size of a string including the terminating zero, padded to a multiple of 4.
+     *
+     * @param length The number of bytes of the string
+     * @return The padded size
+     */
+    private static int getPaddedSize (final int length)
+    {
+        return getPaddedSize (length, true);
+    }
+
+
+    private static int getPaddedSize (final int length, final boolean addTerminator)
+    {
+        final int size = addTerminator ? length + 1 : length;
+        return (size + 3) & ~3;
+    }
+}
@@ -0,0 +1,329 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Sends OSC messages with its own encoder over UDP or TCP. Bundles are packed up to the maximum
+ * packet size of the protocol. The packets are queued and sent from a separate thread, therefore
+ * the caller is never blocked. UDP packets are sent in bursts with a short pause in between, so
+ * that clients can keep up with large dumps. TCP uses the SLIP framing of OSC 1.1 and is lossless.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSocketClient implements IOpenSoundControlClient
+{
+    /** The transport protocol. */
+    public enum Protocol
+    {
+        /** Datagrams, packed up to the MTU of an ethernet network. */
+        UDP,
+        /** A TCP stream with SLIP framing (OSC 1.1). */
+        TCP
+    }
+
+
+    /** The maximum UDP payload which fits into an ethernet frame without fragmentation. */
+    private static final int               MAX_UDP_PACKET_SIZE = 1472;
+    private static final int               MAX_TCP_PACKET_SIZE = 65536;
+    /** The number of UDP packets which are sent without a pause. */
+    private static final int               PACKETS_PER_BURST   = 16;
+    /** The pause between two bursts in milliseconds. */
+    private static final int               BURST_PAUSE         = 1;
+    private static final int               MAX_QUEUED_PACKETS  = 4096;
+    private static final int               CONNECT_TIMEOUT     = 1000;
+    private static final int               RECONNECT_DELAY     = 2000;
+
+    private static final int               SLIP_END            = 0xC0;
+    private static final int               SLIP_ESC            = 0xDB;
+    private static final int               SLIP_ESC_END        = 0xDC;
+    private static final int               SLIP_ESC_ESC        = 0xDD;
+
+    private final IHost                    host;
+    private final InetSocketAddress        address;
+    private final Protocol                 protocol;
+    private final OpenSoundControlEncoder  encoder             = new OpenSoundControlEncoder ();
+    private final Queue<byte []>           queue               = new ConcurrentLinkedQueue<> ();
+    private final AtomicInteger            queueSize           = new AtomicInteger ();
+    private final AtomicBoolean            isSending           = new AtomicBoolean ();
+    private final AtomicInteger            droppedPackets      = new AtomicInteger ();
+    private final AtomicBoolean            isDropReported      = new AtomicBoolean ();
+    private final ScheduledExecutorService sender              = Executors.newSingleThreadScheduledExecutor ();
+
+    private DatagramSocket                 datagramSocket;
+    private Socket                         socket;
+    private OutputStream                   socketOutput;
+    private long                           nextConnectTime;
+    private boolean                        isErrorReported;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param serverAddress The address of the server
+     * @param serverPort The port of the server
+     * @param protocol The transport protocol to use
+     */
+    public OpenSoundControlSocketClient (final IHost host, final String serverAddress, final int serverPort, final Protocol protocol)
+    {
+        this.host = host;
+        this.address = new InetSocketAddress (serverAddress, serverPort);
+        this.protocol = protocol;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.sendBundle (Collections.singletonList (message));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        final List<byte []> packets;
+        synchronized (this.encoder)
+        {
+            packets = this.encoder.encodeBundles (messages, this.protocol == Protocol.UDP ? MAX_UDP_PACKET_SIZE : MAX_TCP_PACKET_SIZE);
+        }
+
+        for (final byte [] packet: packets)
+        {
+            if (this.queueSize.incrementAndGet () > MAX_QUEUED_PACKETS)
+            {
+                this.queueSize.decrementAndGet ();
+                this.reportDrop ("the send queue is full");
+                continue;
+            }
+            this.queue.add (packet);
+        }
+
+        this.startSending (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        this.sender.shutdown ();
+        try
+        {
+            this.sender.awaitTermination (1, TimeUnit.SECONDS);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.closeSockets ();
+
+        final int dropped = this.droppedPackets.get ();
+        if (dropped > 0)
+            this.host.println ("OSC: " + dropped + " packets were dropped in total.");
+    }
+
+
+    /**
+     * Count a packet which could not be sent. The first packet of a series of dropped packets is
+     * reported, the series ends when the next packet is sent successfully.
+     *
+     * @param reason The reason why the packet was dropped
+     */
+    private void reportDrop (final String reason)
+    {
+        this.droppedPackets.incrementAndGet ();
+        if (this.isDropReported.compareAndSet (false, true))
+            this.host.println ("OSC: Dropping packets since " + reason + ".");
+    }
+
+
+    /**
+     * Schedule sending the queued packets, if not already running.
+     *
+     * @param delay The delay in milliseconds
+     */
+    private void startSending (final long delay)
+    {
+        if (!this.isSending.compareAndSet (false, true))
+            return;
+        try
+        {
+            this.sender.schedule (this::sendQueuedPackets, delay, TimeUnit.MILLISECONDS);
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Closed
+            this.isSending.set (false);
+        }
+    }
+
+
+    /**
+     * Send the queued packets. UDP packets are sent in bursts, the next burst is scheduled after a
+     * short pause.
+     */
+    private void sendQueuedPackets ()
+    {
+        final boolean isUDP = this.protocol == Protocol.UDP;
+        int count = 0;
+        byte [] packet;
+        while ((!isUDP || count < PACKETS_PER_BURST) && (packet = this.queue.poll ()) != null)
+        {
+            this.queueSize.decrementAndGet ();
+            count++;
+            try
+            {
+                if (isUDP)
+                    this.sendDatagram (packet);
+                else
+                    this.sendStream (packet);
+            }
+            catch (final IOException ex)
+            {
+                this.droppedPackets.incrementAndGet ();
+                this.handleSendError (ex);
+            }
+        }
+
+        if (!isUDP)
+            this.flushStream ();
+
+        this.isSending.set (false);
+        if (!this.queue.isEmpty ())
+            this.startSending (isUDP ? BURST_PAUSE : 0);
+    }
+
+
+    private void sendDatagram (final byte [] packet) throws IOException
+    {
+        if (this.datagramSocket == null)
+            this.datagramSocket = new DatagramSocket ();
+        this.datagramSocket.send (new DatagramPacket (packet, packet.length, this.address));
+        this.isDropReported.set (false);
+    }
+
+
+    /**
+     * Send a packet over the TCP connection with SLIP framing. Connects if necessary. Packets are
+     * dropped (and counted) while there is no connection.
+     *
+     * @param packet The packet to send
+     * @throws IOException Could not send the packet
+     */
+    private void sendStream (final byte [] packet) throws IOException
+    {
+        if (this.socketOutput == null)
+        {
+            if (System.currentTimeMillis () < this.nextConnectTime)
+            {
+                this.reportDrop ("there is no connection to " + this.address);
+                return;
+            }
+            this.nextConnectTime = System.currentTimeMillis () + RECONNECT_DELAY;
+
+            this.socket = new Socket ();
+            this.socket.setTcpNoDelay (true);
+            this.socket.connect (this.address, CONNECT_TIMEOUT);
+            this.socketOutput = new BufferedOutputStream (this.socket.getOutputStream (), MAX_TCP_PACKET_SIZE);
+            this.isErrorReported = false;
+        }
+
+        final OutputStream out = this.socketOutput;
+        out.write (SLIP_END);
+        for (final byte b: packet)
+        {
+            final int value = b & 0xFF;
+            if (value == SLIP_END)
+            {
+                out.write (SLIP_ESC);
+                out.write (SLIP_ESC_END);
+            }
+            else if (value == SLIP_ESC)
+            {
+                out.write (SLIP_ESC);
+                out.write (SLIP_ESC_ESC);
+            }
+            else
+                out.write (value);
+        }
+        out.write (SLIP_END);
+        this.isDropReported.set (false);
+    }
+
+
+    private void flushStream ()
+    {
+        if (this.socketOutput == null)
+            return;
+        try
+        {
+            this.socketOutput.flush ();
+        }
+        catch (final IOException ex)
+        {
+            this.handleSendError (ex);
+        }
+    }
+
+
+    private void handleSendError (final IOException ex)
+    {
+        // Report only once, e.g. if the server is not running
+        if (!this.isErrorReported)
+        {
+            this.isErrorReported = true;
+            this.host.error ("Could not send OSC packet to " + this.address + ".", ex);
+        }
+        this.closeSockets ();
+    }
+
+
+    private void closeSockets ()
+    {
+        if (this.datagramSocket != null)
+        {
+            this.datagramSocket.close ();
+            this.datagramSocket = null;
+        }
+
+        if (this.socket != null)
+        {
+            try
+            {
+                this.socket.close ();
+            }
+            catch (final IOException ex)
+            {
+                // Ignore
+            }
+            this.socket = null;
+            this.socketOutput = null;
+        }
+    }
+}
@@ -24,10 +24,11 @@ public interface IUsbEndpoint
 
 
     /**
-     * Send data asynchroneously to the endpoint.
+     * Transfer data asynchroneously to the endpoint. Writes the data to an output endpoint and reads
+     * into the memory block from an input endpoint.
      *
      * @param memoryBlock The memory block with the data to send
-     * @param callback Callback when the sending has finished
+     * @param callback Callback when the transfer has finished, receives -1 if the transfer failed
      * @param timeout Timeout for the sending task
      */
     void sendAsync (IMemoryBlock memoryBlock, IUsbCallback callback, int timeout);
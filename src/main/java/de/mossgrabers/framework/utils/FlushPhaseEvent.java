@@ -0,0 +1,49 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+
+/**
+ * A Java Flight Recorder event for a measured phase of the flush cycle. Only referenced by the
+ * profiler if the flight recorder classes are available.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@Name("de.mossgrabers.FlushPhase")
+@Label("Flush Phase")
+@Category("DrivenByMoss")
+@Description("The duration of a phase of the flush cycle of a controller")
+class FlushPhaseEvent extends jdk.jfr.Event
+{
+    @Label("Phase")
+    String phase;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long   duration;
+
+
+    /**
+     * Commit an event if the flight recorder is recording flush events.
+     *
+     * @param phase The name of the phase
+     * @param duration The duration in nanoseconds
+     */
+    static void emit (final String phase, final long duration)
+    {
+        final FlushPhaseEvent event = new FlushPhaseEvent ();
+        if (!event.isEnabled ())
+            return;
+        event.phase = phase;
+        event.duration = duration;
+        event.commit ();
+    }
+}
@@ -0,0 +1,359 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Lightweight instrumentation of the flush cycle. Measures the duration of the phases of a flush
+ * in histograms, counts the sent MIDI messages and bytes per port and events like sent and skipped
+ * display frames. Additional values (e.g. the frame counters of a USB display) can be registered.
+ * While enabled, a summary is printed to the console periodically and each phase is also reported
+ * as a Java Flight Recorder event. While disabled the cost is a single volatile read.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushProfiler
+{
+    /** The measured phases of a flush. */
+    public enum Phase
+    {
+        /** The complete flush of a surface. */
+        FLUSH,
+        /** Updating the controls of the active view and mode. */
+        VIEW_CONTROLS,
+        /** Drawing the pad grid of the active view. */
+        GRID,
+        /** Sending all changes to the hardware (text displays, lights, controls). */
+        HARDWARE,
+        /** Rendering the image of a graphics display. */
+        DISPLAY_RENDERING
+    }
+
+
+    /** The counted events. */
+    public enum Event
+    {
+        /** A text display sent at least one changed row. */
+        TEXT_DISPLAY_SENT,
+        /** A text display had no changes. */
+        TEXT_DISPLAY_SKIPPED,
+        /** A graphics display image was rendered. */
+        GRAPHICS_DISPLAY_RENDERED,
+        /** A graphics display image was not rendered since nothing changed. */
+        GRAPHICS_DISPLAY_SKIPPED
+    }
+
+
+    /** The interval for printing the summary in milliseconds. */
+    public static final int                   SUMMARY_INTERVAL = 10000;
+
+    /** Bucket i contains durations in the range of [2^i, 2^(i+1)) nanoseconds. */
+    private static final int                  NUM_BUCKETS      = 40;
+
+    private static final boolean              IS_JFR_AVAILABLE = isJfrAvailable ();
+
+    private final IHost                       host;
+    private final PhaseStatistics []          phases           = new PhaseStatistics [Phase.values ().length];
+    private final AtomicLong []               events           = new AtomicLong [Event.values ().length];
+    private final Map<String, MidiStatistics> midiPorts        = new ConcurrentHashMap<> ();
+    private final Map<String, LongSupplier>   values           = new ConcurrentHashMap<> ();
+
+    private volatile boolean                  isEnabled;
+    private long                              intervalStart;
+    private int                               generation;
+
+
+    /** The duration histogram of a phase. */
+    private static class PhaseStatistics
+    {
+        private final long [] buckets = new long [NUM_BUCKETS];
+        private long          count;
+        private long          total;
+        private long          max;
+
+
+        synchronized void add (final long duration)
+        {
+            final int bucket = duration <= 1 ? 0 : Math.min (NUM_BUCKETS - 1, 63 - Long.numberOfLeadingZeros (duration));
+            this.buckets[bucket]++;
+            this.count++;
+            this.total += duration;
+            if (duration > this.max)
+                this.max = duration;
+        }
+
+
+        /**
+         * Format the statistics and reset them.
+         *
+         * @param name The name of the phase
+         * @param sb Where to append the text
+         */
+        synchronized void appendAndReset (final String name, final StringBuilder sb)
+        {
+            if (this.count == 0)
+                return;
+
+            sb.append (String.format (Locale.US, "  %-18s %7d calls, avg %8.3f ms, p50 < %8.3f ms, p99 < %8.3f ms, max %8.3f ms%n", name, Long.valueOf (this.count), Double.valueOf (toMillis (this.total / this.count)), Double.valueOf (this.getPercentile (0.5)), Double.valueOf (this.getPercentile (0.99)), Double.valueOf (toMillis (this.max))));
+
+            this.reset ();
+        }
+
+
+        synchronized void reset ()
+        {
+            Arrays.fill (this.buckets, 0);
+            this.count = 0;
+            this.total = 0;
+            this.max = 0;
+        }
+
+
+        /**
+         * Get the upper bound of the bucket which contains the percentile.
+         *
+         * @param percentile The percentile (0..1)
+         * @return The upper bound in milliseconds
+         */
+        private double getPercentile (final double percentile)
+        {
+            final long limit = (long) Math.ceil (this.count * percentile);
+            long sum = 0;
+            for (int i = 0; i < NUM_BUCKETS; i++)
+            {
+                sum += this.buckets[i];
+                if (sum >= limit)
+                    return toMillis (1L << i + 1);
+            }
+            return toMillis (this.max);
+        }
+    }
+
+
+    /** The number of sent messages and bytes of a MIDI port. */
+    private static class MidiStatistics
+    {
+        private final AtomicLong messages = new AtomicLong ();
+        private final AtomicLong bytes    = new AtomicLong ();
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public FlushProfiler (final IHost host)
+    {
+        this.host = host;
+
+        for (int i = 0; i < this.phases.length; i++)
+            this.phases[i] = new PhaseStatistics ();
+        for (int i = 0; i < this.events.length; i++)
+            this.events[i] = new AtomicLong ();
+    }
+
+
+    /**
+     * Enable or disable the profiling. Enabling starts the periodic summary.
+     *
+     * @param enable True to enable
+     */
+    public void setEnabled (final boolean enable)
+    {
+        synchronized (this)
+        {
+            if (this.isEnabled == enable)
+                return;
+            this.isEnabled = enable;
+            this.generation++;
+            if (!enable)
+                return;
+            this.reset ();
+        }
+
+        final int currentGeneration = this.generation;
+        this.host.scheduleTask ( () -> this.printSummary (currentGeneration), SUMMARY_INTERVAL);
+    }
+
+
+    /**
+     * Returns true if the profiling is enabled.
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Start measuring a phase.
+     *
+     * @return The start time to hand to {@link #stop(Phase, long)}, 0 if profiling is disabled
+     */
+    public long start ()
+    {
+        return this.isEnabled ? System.nanoTime () : 0;
+    }
+
+
+    /**
+     * Stop measuring a phase.
+     *
+     * @param phase The phase
+     * @param startTime The result of {@link #start()}
+     */
+    public void stop (final Phase phase, final long startTime)
+    {
+        if (startTime == 0 || !this.isEnabled)
+            return;
+        final long duration = System.nanoTime () - startTime;
+        this.phases[phase.ordinal ()].add (duration);
+        if (IS_JFR_AVAILABLE)
+            FlushPhaseEvent.emit (phase.name (), duration);
+    }
+
+
+    /**
+     * Count an event.
+     *
+     * @param event The event
+     */
+    public void count (final Event event)
+    {
+        if (this.isEnabled)
+            this.events[event.ordinal ()].incrementAndGet ();
+    }
+
+
+    /**
+     * Count a sent MIDI message.
+     *
+     * @param port The name of the MIDI port
+     * @param length The number of bytes of the message
+     */
+    public void countMidi (final String port, final int length)
+    {
+        if (!this.isEnabled)
+            return;
+        final MidiStatistics statistics = this.midiPorts.computeIfAbsent (port, p -> new MidiStatistics ());
+        statistics.messages.incrementAndGet ();
+        statistics.bytes.addAndGet (length);
+    }
+
+
+    /**
+     * Register a value which is added to the summary, e.g. a counter of an external component.
+     *
+     * @param name The name of the value
+     * @param value Supplies the current value
+     */
+    public void registerValue (final String name, final LongSupplier value)
+    {
+        this.values.put (name, value);
+    }
+
+
+    /**
+     * Get a summary of all statistics since the last summary and reset them.
+     *
+     * @return The formatted summary
+     */
+    public String getSummary ()
+    {
+        final long now = System.nanoTime ();
+        final double seconds;
+        synchronized (this)
+        {
+            seconds = Math.max (0.001, (now - this.intervalStart) / 1000000000.0);
+            this.intervalStart = now;
+        }
+
+        final StringBuilder sb = new StringBuilder ();
+        sb.append (String.format (Locale.US, "Flush profile of the last %.1f s:%n", Double.valueOf (seconds)));
+
+        final Phase [] phaseValues = Phase.values ();
+        for (int i = 0; i < phaseValues.length; i++)
+            this.phases[i].appendAndReset (phaseValues[i].name (), sb);
+
+        for (final Map.Entry<String, MidiStatistics> e: new TreeMap<> (this.midiPorts).entrySet ())
+        {
+            final MidiStatistics statistics = e.getValue ();
+            final double messages = statistics.messages.getAndSet (0) / seconds;
+            final double bytes = statistics.bytes.getAndSet (0) / seconds;
+            sb.append (String.format (Locale.US, "  %-18s %9.1f messages/s, %10.1f bytes/s%n", e.getKey (), Double.valueOf (messages), Double.valueOf (bytes)));
+        }
+
+        final Event [] eventValues = Event.values ();
+        for (int i = 0; i < eventValues.length; i++)
+        {
+            final long count = this.events[i].getAndSet (0);
+            if (count > 0)
+                sb.append ("  ").append (eventValues[i].name ()).append (": ").append (count).append (System.lineSeparator ());
+        }
+
+        for (final Map.Entry<String, LongSupplier> e: new TreeMap<> (this.values).entrySet ())
+            sb.append ("  ").append (e.getKey ()).append (": ").append (e.getValue ().getAsLong ()).append (System.lineSeparator ());
+
+        return sb.toString ();
+    }
+
+
+    private void printSummary (final int summaryGeneration)
+    {
+        if (summaryGeneration != this.generation)
+            return;
+        this.host.println (this.getSummary ());
+        this.host.scheduleTask ( () -> this.printSummary (summaryGeneration), SUMMARY_INTERVAL);
+    }
+
+
+    private void reset ()
+    {
+        this.intervalStart = System.nanoTime ();
+        for (final PhaseStatistics phase: this.phases)
+            phase.reset ();
+        for (final AtomicLong event: this.events)
+            event.set (0);
+        this.midiPorts.clear ();
+    }
+
+
+    private static double toMillis (final long nanos)
+    {
+        return nanos / 1000000.0;
+    }
+
+
+    /**
+     * The flight recorder is not part of all Java runtimes.
+     *
+     * @return True if the flight recorder classes are available
+     */
+    private static boolean isJfrAvailable ()
+    {
+        try
+        {
+            Class.forName ("jdk.jfr.Event");
+            return true;
+        }
+        catch (final ClassNotFoundException | LinkageError ex)
+        {
+            return false;
+        }
+    }
+}
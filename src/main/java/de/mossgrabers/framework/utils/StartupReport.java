@@ -0,0 +1,66 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Measures the duration of the phases of the startup of a controller.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StartupReport
+{
+    private final StringBuilder phases = new StringBuilder ();
+    private long                startTime;
+    private long                phaseStartTime;
+
+
+    /**
+     * Constructor.
+     */
+    public StartupReport ()
+    {
+        this.start ();
+    }
+
+
+    /**
+     * Clear all measured phases and start the time measurement.
+     */
+    public void start ()
+    {
+        this.phases.setLength (0);
+        this.startTime = System.nanoTime ();
+        this.phaseStartTime = this.startTime;
+    }
+
+
+    /**
+     * Finish a phase. The phase started when the previous phase was finished.
+     *
+     * @param name The name of the phase
+     */
+    public void phase (final String name)
+    {
+        final long now = System.nanoTime ();
+        if (this.phases.length () > 0)
+            this.phases.append (", ");
+        this.phases.append (name).append (' ').append (toMillis (now - this.phaseStartTime)).append (" ms");
+        this.phaseStartTime = now;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return "Startup took " + toMillis (this.phaseStartTime - this.startTime) + " ms (" + this.phases + ")";
+    }
+
+
+    private static long toMillis (final long nanos)
+    {
+        return nanos / 1000000L;
+    }
+}
@@ -0,0 +1,316 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+
+
+/**
+ * A hashed timer wheel for short delays like long press detection. Instead of scheduling a task at
+ * the host for each event, timeouts are put into the slots of a wheel. Arming and cancelling a
+ * timeout is O(1) and re-arming a timeout does not allocate any memory. The wheel is advanced on
+ * each flush. Since the host does not flush regularly, e.g. while the transport is stopped, one
+ * host task is kept armed at the next deadline while timeouts are pending. The precision is
+ * limited by the tick duration.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TimerWheel
+{
+    /** The duration of one tick in milliseconds. */
+    public static final int   TICK_DURATION    = 10;
+
+    private static final long TICK_DURATION_NS = TICK_DURATION * 1000000L;
+    private static final int  WHEEL_SIZE       = 128;
+    private static final int  WHEEL_MASK       = WHEEL_SIZE - 1;
+    /** The index of the list which contains the expired timeouts. */
+    private static final int  EXPIRED          = WHEEL_SIZE;
+    private static final int  NONE             = -1;
+
+    private final IHost       host;
+    private final Timeout []  buckets          = new Timeout [WHEEL_SIZE + 1];
+    private final long        startTime        = System.nanoTime ();
+    private long              lastTick;
+    private long              hostTaskDeadline = NONE;
+
+
+    /**
+     * A re-usable timeout, which executes a task when it expires.
+     */
+    public final class Timeout
+    {
+        private final Runnable task;
+        private long           deadline;
+        private int            bucket = NONE;
+        private Timeout        previous;
+        private Timeout        next;
+
+
+        /**
+         * Constructor.
+         *
+         * @param task The task to execute when the timeout expires
+         */
+        Timeout (final Runnable task)
+        {
+            this.task = task;
+        }
+
+
+        /**
+         * (Re-)arm the timeout. If the timeout is already pending, it is cancelled first.
+         *
+         * @param delay The delay in milliseconds after which the task is executed
+         */
+        public void schedule (final long delay)
+        {
+            TimerWheel.this.arm (this, delay);
+        }
+
+
+        /**
+         * Cancel the timeout. Does nothing if the timeout is not pending.
+         */
+        public void cancel ()
+        {
+            TimerWheel.this.disarm (this);
+        }
+
+
+        /**
+         * Returns true if the timeout is armed and its task was not yet executed.
+         *
+         * @return True if pending
+         */
+        public boolean isPending ()
+        {
+            synchronized (TimerWheel.this)
+            {
+                return this.bucket != NONE;
+            }
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host, for logging errors of the executed tasks
+     */
+    public TimerWheel (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Create a timeout which can be (re-)armed and cancelled.
+     *
+     * @param task The task to execute when the timeout expires
+     * @return The timeout, not yet armed
+     */
+    public Timeout createTimeout (final Runnable task)
+    {
+        return new Timeout (task);
+    }
+
+
+    /**
+     * Execute a task once after the given delay.
+     *
+     * @param task The task to execute
+     * @param delay The delay in milliseconds
+     * @return The armed timeout, can be used to cancel the task
+     */
+    public Timeout schedule (final Runnable task, final long delay)
+    {
+        final Timeout timeout = new Timeout (task);
+        this.arm (timeout, delay);
+        return timeout;
+    }
+
+
+    /**
+     * Advance the wheel to the current time and execute the tasks of all expired timeouts. Must be
+     * called regularly, e.g. on each flush.
+     */
+    public void tick ()
+    {
+        synchronized (this)
+        {
+            final long currentTick = this.getCurrentTick ();
+            // If more ticks than slots have passed all slots need only to be checked once
+            final long firstTick = Math.max (this.lastTick + 1, currentTick - WHEEL_MASK);
+            for (long t = firstTick; t <= currentTick; t++)
+            {
+                Timeout timeout = this.buckets[(int) (t & WHEEL_MASK)];
+                while (timeout != null)
+                {
+                    final Timeout next = timeout.next;
+                    if (timeout.deadline <= currentTick)
+                    {
+                        this.unlink (timeout);
+                        this.link (timeout, EXPIRED);
+                    }
+                    timeout = next;
+                }
+            }
+            this.lastTick = Math.max (this.lastTick, currentTick);
+        }
+
+        // Execute the tasks outside of the lock since they might re-arm or cancel timeouts
+        Timeout expired;
+        while ((expired = this.pollExpired ()) != null)
+        {
+            try
+            {
+                expired.task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute timer task.", ex);
+            }
+        }
+
+        this.scheduleHostTask ();
+    }
+
+
+    /**
+     * Cancel all pending timeouts.
+     */
+    public synchronized void clear ()
+    {
+        for (final Timeout head: this.buckets)
+        {
+            Timeout timeout = head;
+            while (timeout != null)
+            {
+                final Timeout next = timeout.next;
+                timeout.previous = null;
+                timeout.next = null;
+                timeout.bucket = NONE;
+                timeout = next;
+            }
+        }
+        Arrays.fill (this.buckets, null);
+        // A still scheduled host task only executes an empty tick
+        this.hostTaskDeadline = NONE;
+    }
+
+
+    private synchronized void arm (final Timeout timeout, final long delay)
+    {
+        this.unlink (timeout);
+
+        // Round up, a timeout must never expire too early
+        final long ticks = Math.max (1, (delay + TICK_DURATION - 1) / TICK_DURATION);
+        timeout.deadline = Math.max (this.getCurrentTick (), this.lastTick) + ticks;
+        this.link (timeout, (int) (timeout.deadline & WHEEL_MASK));
+
+        if (this.hostTaskDeadline == NONE || timeout.deadline < this.hostTaskDeadline)
+            this.scheduleHostTask (timeout.deadline);
+    }
+
+
+    /**
+     * Schedule a host task at the next deadline of the pending timeouts, if there is not already
+     * one armed which is not yet due.
+     */
+    private synchronized void scheduleHostTask ()
+    {
+        if (this.hostTaskDeadline != NONE && this.hostTaskDeadline > this.lastTick)
+            return;
+        this.hostTaskDeadline = NONE;
+
+        long nextDeadline = Long.MAX_VALUE;
+        for (int i = 0; i < WHEEL_SIZE; i++)
+        {
+            for (Timeout timeout = this.buckets[i]; timeout != null; timeout = timeout.next)
+                nextDeadline = Math.min (nextDeadline, timeout.deadline);
+        }
+        if (nextDeadline != Long.MAX_VALUE)
+            this.scheduleHostTask (nextDeadline);
+    }
+
+
+    /**
+     * Schedule a host task which advances the wheel at the given deadline. A previously scheduled
+     * task still executes but only ticks the wheel.
+     *
+     * @param deadline The deadline in ticks
+     */
+    private void scheduleHostTask (final long deadline)
+    {
+        this.hostTaskDeadline = deadline;
+        final long remaining = this.startTime + deadline * TICK_DURATION_NS - System.nanoTime ();
+        final long delay = Math.max (0, (remaining + 999999L) / 1000000L);
+        this.host.scheduleTask ( () -> this.executeHostTask (deadline), delay);
+    }
+
+
+    private void executeHostTask (final long deadline)
+    {
+        synchronized (this)
+        {
+            if (this.hostTaskDeadline == deadline)
+                this.hostTaskDeadline = NONE;
+        }
+        this.tick ();
+    }
+
+
+    private synchronized void disarm (final Timeout timeout)
+    {
+        this.unlink (timeout);
+    }
+
+
+    private synchronized Timeout pollExpired ()
+    {
+        final Timeout timeout = this.buckets[EXPIRED];
+        if (timeout != null)
+            this.unlink (timeout);
+        return timeout;
+    }
+
+
+    private void link (final Timeout timeout, final int bucket)
+    {
+        final Timeout head = this.buckets[bucket];
+        timeout.bucket = bucket;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null)
+            head.previous = timeout;
+        this.buckets[bucket] = timeout;
+    }
+
+
+    private void unlink (final Timeout timeout)
+    {
+        if (timeout.bucket == NONE)
+            return;
+
+        if (timeout.previous == null)
+            this.buckets[timeout.bucket] = timeout.next;
+        else
+            timeout.previous.next = timeout.next;
+        if (timeout.next != null)
+            timeout.next.previous = timeout.previous;
+
+        timeout.bucket = NONE;
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+
+    private long getCurrentTick ()
+    {
+        return (System.nanoTime () - this.startTime) / TICK_DURATION_NS;
+    }
+}
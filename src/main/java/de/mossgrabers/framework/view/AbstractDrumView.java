@@ -67,6 +67,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     protected int                          selectedPad;
     protected final BrowserActivator<S, C> browserModeActivator;
     protected int                          scrollPosition        = -1;
+    private final int []                   rowNote               = new int [1];
 
 
     /**
@@ -391,7 +392,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
 
     protected String getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return DAWColor.getColorIndex (drumPad.getColorARGB ());
     }
 
 
@@ -626,20 +627,23 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final int currentPage = step / this.sequencerSteps;
 
         final int numOfPages = this.halfColumns * this.playLines;
+        final String [] pageColors = this.getPageColors (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), numOfPages);
         final IPadGrid padGrid = this.surface.getPadGrid ();
         for (int pad = 0; pad < numOfPages; pad++)
         {
             final int x = this.halfColumns + pad % this.halfColumns;
             final int y = this.sequencerLines + pad / this.halfColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightEx (x, y, isActive ? pageColors[pad] : AbstractSequencerView.COLOR_NO_CONTENT);
         }
 
         // Paint the sequencer steps
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        this.rowNote[0] = noteRow;
+        final int [] states = this.getStepStates (clip, editMidiChannel, this.rowNote, this.sequencerSteps);
         for (int col = 0; col < this.sequencerSteps; col++)
         {
-            final int isSet = clip.getStep (editMidiChannel, col, noteRow).getState ();
+            final int isSet = states[col];
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
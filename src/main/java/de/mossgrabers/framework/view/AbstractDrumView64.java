@@ -212,7 +212,7 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
 
     protected String getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return DAWColor.getColorIndex (drumPad.getColorARGB ());
     }
 
 
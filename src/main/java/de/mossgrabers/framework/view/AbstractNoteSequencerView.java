@@ -37,6 +37,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
     protected int            loopPadPressed = -1;
     protected int            offsetY;
     protected IStepInfo      copyNote;
+    private int []           rowNotes       = new int [0];
 
     private final boolean    useTrackColor;
 
@@ -266,13 +267,17 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int step = clip.getCurrentStep ();
         final int hiStep = this.isInXRange (step) ? step % this.numDisplayCols : -1;
         final int editMidiChannel = this.configuration.getMidiEditChannel ();
+        if (this.rowNotes.length != this.numSequencerRows)
+            this.rowNotes = new int [this.numSequencerRows];
+        for (int y = 0; y < this.numSequencerRows; y++)
+            this.rowNotes[y] = this.keyManager.map (y);
+        final int [] states = this.getStepStates (clip, editMidiChannel, this.rowNotes, this.numDisplayCols);
         for (int x = 0; x < this.numDisplayCols; x++)
         {
             for (int y = 0; y < this.numSequencerRows; y++)
             {
                 // 0: not set, 1: note continues playing, 2: start of note
-                final int map = this.keyManager.map (y);
-                final int isSet = map < 0 ? 0 : clip.getStep (editMidiChannel, x, map).getState ();
+                final int isSet = states[y * this.numDisplayCols + x];
                 gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, selectedTrack));
             }
         }
@@ -285,8 +290,9 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int loopStartPad = (int) Math.ceil (loopStart / lengthOfOnePad);
         final int loopEndPad = (int) Math.ceil ((loopStart + clip.getLoopLength ()) / lengthOfOnePad);
         final int currentPage = step / this.numDisplayCols;
+        final String [] pageColors = this.getPageColors (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), this.numDisplayCols);
         for (int pad = 0; pad < this.numDisplayCols; pad++)
-            gridPad.lightEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            gridPad.lightEx (pad, 0, pageColors[pad]);
     }
 
 
@@ -17,8 +17,8 @@ import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.BitSet;
 
 
 /**
@@ -31,16 +31,18 @@ import java.util.Map;
  */
 public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C extends Configuration> extends AbstractSequencerView<S, C> implements TransposeView
 {
-    protected static final int            GRID_COLUMNS        = 8;
-    protected static final int            GRID_ROWS           = 8;
-    protected static final int            NUM_SEQUENCER_LINES = 4;
+    protected static final int GRID_COLUMNS        = 8;
+    protected static final int GRID_ROWS           = 8;
+    protected static final int NUM_SEQUENCER_LINES = 4;
 
-    protected final int                   sequencerSteps;
-    protected final boolean               useTrackColor;
-    protected final Map<Integer, Integer> noteMemory          = new HashMap<> ();
-    protected int                         copyStep            = -1;
-    private int                           numColumns;
-    private int                           numRows;
+    protected final int        sequencerSteps;
+    protected final boolean    useTrackColor;
+    protected final BitSet     noteMemory          = new BitSet (128);
+    protected final int []     noteVelocities      = new int [128];
+    private final int []       accentVelocities    = new int [128];
+    protected int              copyStep            = -1;
+    private int                numColumns;
+    private int                numRows;
 
 
     /**
@@ -201,7 +203,10 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
 
         this.keyManager.setAllKeysPressed (mappedNote, velocity);
         if (velocity > 0)
-            this.noteMemory.put (Integer.valueOf (mappedNote), Integer.valueOf (velocity));
+        {
+            this.noteMemory.set (mappedNote);
+            this.noteVelocities[mappedNote] = velocity;
+        }
     }
 
 
@@ -221,25 +226,9 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             return;
 
         if (this.getStep (clip, step) > 0)
-        {
-            for (int row = 0; row < 128; row++)
-            {
-                if (clip.getStep (channel, step, row).getState () > 0)
-                    clip.clearStep (channel, step, row);
-            }
-        }
+            clip.clearColumn (channel, step);
         else
-        {
-            for (int row = 0; row < 128; row++)
-            {
-                final Integer k = Integer.valueOf (row);
-                if (this.noteMemory.containsKey (k))
-                {
-                    final Integer vel = this.noteMemory.get (k);
-                    clip.toggleStep (channel, step, row, this.configuration.isAccentActive () ? this.configuration.getFixedAccentValue () : vel.intValue ());
-                }
-            }
-        }
+            clip.setColumn (channel, step, this.noteMemory, this.getNoteVelocities (), clip.getStepLength ());
     }
 
 
@@ -261,14 +250,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             if (this.getStep (clip, step) == IStepInfo.NOTE_START)
                 this.copyStep = step;
             else if (this.copyStep >= 0)
-            {
-                for (int row = 0; row < 128; row++)
-                {
-                    final IStepInfo stepInfo = clip.getStep (channel, this.copyStep, row);
-                    if (stepInfo != null)
-                        clip.setStep (channel, step, row, stepInfo);
-                }
-            }
+                clip.copyColumn (channel, this.copyStep, step);
             return true;
         }
 
@@ -288,23 +270,15 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
                 // Create new note(s)
                 if (this.getStep (clip, s) != IStepInfo.NOTE_START)
                 {
-                    for (int row = 0; row < 128; row++)
-                    {
-                        final Integer k = Integer.valueOf (row);
-                        if (this.noteMemory.containsKey (k))
-                        {
-                            final Integer vel = this.noteMemory.get (k);
-                            clip.setStep (channel, s, row, this.configuration.isAccentActive () ? this.configuration.getFixedAccentValue () : vel.intValue (), duration);
-                        }
-                    }
+                    clip.setColumn (channel, s, this.noteMemory, this.getNoteVelocities (), duration);
                     return true;
                 }
 
                 // Change length of existing notes
-                for (int row = 0; row < 128; row++)
+                final BitSet notes = clip.getColumnNotes (channel, s);
+                for (int row = notes.nextSetBit (0); row >= 0; row = notes.nextSetBit (row + 1))
                 {
-                    final IStepInfo stepInfo = clip.getStep (channel, s, row);
-                    if (stepInfo != null && stepInfo.getState () == IStepInfo.NOTE_START)
+                    if (clip.getStep (channel, s, row).getState () == IStepInfo.NOTE_START)
                         clip.updateStepDuration (channel, s, row, duration);
                 }
 
@@ -375,17 +349,21 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      */
     protected int getStep (final INoteClip clip, final int col)
     {
-        int result = IStepInfo.NOTE_OFF;
-        final int editMidiChannel = this.configuration.getMidiEditChannel ();
-        for (int row = 0; row < 128; row++)
-        {
-            final int r = clip.getStep (editMidiChannel, col, row).getState ();
-            if (r == IStepInfo.NOTE_START)
-                return r;
-            if (r == IStepInfo.NOTE_CONTINUE)
-                result = IStepInfo.NOTE_CONTINUE;
-        }
-        return result;
+        return clip.getColumnState (this.configuration.getMidiEditChannel (), col);
+    }
+
+
+    /**
+     * Get the velocities to use for the memorized notes.
+     *
+     * @return The velocities indexed by the note, must not be modified
+     */
+    protected int [] getNoteVelocities ()
+    {
+        if (!this.configuration.isAccentActive ())
+            return this.noteVelocities;
+        Arrays.fill (this.accentVelocities, this.configuration.getFixedAccentValue ());
+        return this.accentVelocities;
     }
 
 
@@ -9,9 +9,12 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation for a view which provides a sequencer.
@@ -60,6 +63,14 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
     private boolean               isSequencerActive;
 
+    private INoteClip             stepStatesClip;
+    private int                   stepStatesVersion            = -1;
+    private int                   stepStatesChannel            = -1;
+    private int []                stepStatesRows               = new int [0];
+    private int []                stepStates                   = new int [0];
+    private final int []          pageColorsKey                = new int [4];
+    private String []             pageColors                   = new String [0];
+
 
     /**
      * Constructor.
@@ -266,6 +277,71 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     }
 
 
+    /**
+     * Get the colors of all sequencer pages. The colors are only calculated again if one of the
+     * parameters has changed, otherwise the colors of the last call are returned.
+     *
+     * @param loopStartPage The page where the loop starts
+     * @param loopEndPage The page where the loop ends
+     * @param playPage The page which contains the currently played step
+     * @param selectedPage The page selected for editing
+     * @param numPages The number of pages
+     * @return The colors of the pages, must not be modified
+     */
+    protected String [] getPageColors (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int numPages)
+    {
+        final int [] key = this.pageColorsKey;
+        if (this.pageColors.length == numPages && key[0] == loopStartPage && key[1] == loopEndPage && key[2] == playPage && key[3] == selectedPage)
+            return this.pageColors;
+
+        if (this.pageColors.length != numPages)
+            this.pageColors = new String [numPages];
+        for (int page = 0; page < numPages; page++)
+            this.pageColors[page] = this.getPageColor (loopStartPage, loopEndPage, playPage, selectedPage, page);
+        key[0] = loopStartPage;
+        key[1] = loopEndPage;
+        key[2] = playPage;
+        key[3] = selectedPage;
+        return this.pageColors;
+    }
+
+
+    /**
+     * Get the states of the steps of several rows of a clip. The states are only read again from
+     * the clip if its content version, the MIDI channel or the rows have changed since the last
+     * call. Therefore, while a clip is playing and only the current step moves, the steps are not
+     * looked up again.
+     *
+     * @param clip The clip
+     * @param channel The MIDI channel
+     * @param rows The rows (notes) of which to get the steps, -1 for a row without a note
+     * @param numSteps The number of steps of each row
+     * @return The states of the steps at index row * numSteps + step, see IStepInfo, must not be
+     *         modified
+     */
+    protected int [] getStepStates (final INoteClip clip, final int channel, final int [] rows, final int numSteps)
+    {
+        final int version = clip.getContentVersion ();
+        final int size = rows.length * numSteps;
+        if (clip == this.stepStatesClip && version == this.stepStatesVersion && channel == this.stepStatesChannel && this.stepStates.length == size && Arrays.equals (rows, this.stepStatesRows))
+            return this.stepStates;
+
+        if (this.stepStates.length != size)
+            this.stepStates = new int [size];
+        for (int row = 0; row < rows.length; row++)
+        {
+            final int note = rows[row];
+            for (int step = 0; step < numSteps; step++)
+                this.stepStates[row * numSteps + step] = note < 0 ? IStepInfo.NOTE_OFF : clip.getStep (channel, step, note).getState ();
+        }
+        this.stepStatesClip = clip;
+        this.stepStatesVersion = version;
+        this.stepStatesChannel = channel;
+        this.stepStatesRows = rows.clone ();
+        return this.stepStates;
+    }
+
+
     /**
      * Check if there is a note clip to edit.
      *
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.DAWColor;
+import de.mossgrabers.framework.daw.IClipMatrixOverview;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ISlotBank;
@@ -22,6 +23,8 @@ import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation for a view which provides a session with clips.
@@ -58,6 +61,37 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     protected int                          columns;
     protected boolean                      useClipColor;
 
+    private PadDescriptor [] []            padDescriptors             = new PadDescriptor [0] [0];
+    private SessionColor                   birdColorIsPlaying;
+    private boolean                        isOverviewEnabled;
+
+
+    /**
+     * The cached color of a pad together with the state of the slot it was calculated from.
+     */
+    private static final class PadDescriptor
+    {
+        private final ISlot        slot;
+        private final int          state;
+        private final int          argb;
+        private final SessionColor color;
+
+
+        PadDescriptor (final ISlot slot, final int state, final int argb, final SessionColor color)
+        {
+            this.slot = slot;
+            this.state = state;
+            this.argb = argb;
+            this.color = color;
+        }
+
+
+        boolean matches (final ISlot slot, final int state, final int argb)
+        {
+            return this.slot == slot && this.state == state && this.argb == argb;
+        }
+    }
+
 
     /**
      * Constructor.
@@ -245,13 +279,41 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
     @Override
     public void drawGrid ()
     {
-        if (this.isBirdsEyeActive ())
+        final boolean isBirdsEyeActive = this.isBirdsEyeActive ();
+        this.enableClipMatrixOverview (isBirdsEyeActive);
+        if (isBirdsEyeActive)
             this.drawBirdsEyeGrid ();
         else
             this.drawSessionGrid ();
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void onDeactivate ()
+    {
+        super.onDeactivate ();
+
+        this.enableClipMatrixOverview (false);
+    }
+
+
+    /**
+     * The overview of the clip matrix is only observed while the birds eye view is displayed.
+     *
+     * @param enable True to enable the observers of the overview
+     */
+    private void enableClipMatrixOverview (final boolean enable)
+    {
+        if (this.isOverviewEnabled == enable)
+            return;
+        this.isOverviewEnabled = enable;
+        final IClipMatrixOverview overview = this.model.getClipMatrixOverview ();
+        if (overview != null)
+            overview.enableObservers (enable);
+    }
+
+
     /**
      * Is the birds eye view active? Default implementation checks for Shift button. Override for
      * different behaviour.
@@ -282,7 +344,9 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
 
     /**
-     * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix.
+     * Aggregate the content of 8 pads to 1 pads for quick navigation through the clip matrix. If
+     * the model provides an overview of the clip matrix, pages without clips are drawn empty and
+     * pages with playing clips blink.
      */
     protected void drawBirdsEyeGrid ()
     {
@@ -310,6 +374,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         selX -= offsetX;
         selY -= offsetY;
 
+        final IClipMatrixOverview overview = tb == this.model.getTrackBank () ? this.model.getClipMatrixOverview () : null;
         final IPadGrid padGrid = this.surface.getPadGrid ();
         for (int x = 0; x < this.columns; x++)
         {
@@ -319,12 +384,53 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
                 SessionColor color = y < maxY ? rowColor : this.clipColorHasNoContent;
                 if (selX == x && selY == y)
                     color = this.birdColorSelected;
+                else if (overview != null && x < maxX && y < maxY)
+                {
+                    final int pageX = offsetX + x;
+                    final int pageY = offsetY + y;
+                    color = this.getBirdsEyeColor (overview, flipSession ? pageY : pageX, flipSession ? pageX : pageY);
+                }
                 padGrid.lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
             }
         }
     }
 
 
+    /**
+     * Get the color of a page in the birds eye view from the clip matrix overview.
+     *
+     * @param overview The overview
+     * @param trackPage The index of the track page
+     * @param scenePage The index of the scene page
+     * @return The color
+     */
+    protected SessionColor getBirdsEyeColor (final IClipMatrixOverview overview, final int trackPage, final int scenePage)
+    {
+        // Not covered by the overview
+        if (trackPage >= overview.getNumTrackPages () || scenePage >= overview.getNumScenePages ())
+            return this.birdColorHasContent;
+        if (overview.isPlaying (trackPage, scenePage))
+            return this.getBirdColorIsPlaying ();
+        return overview.getContentCount (trackPage, scenePage) > 0 ? this.birdColorHasContent : this.clipColorHasNoContent;
+    }
+
+
+    /**
+     * Get the blinking color for a page with a playing clip in the birds eye view. The color is
+     * cached and only re-created if one of the colors it is based on was changed.
+     *
+     * @return The color
+     */
+    private SessionColor getBirdColorIsPlaying ()
+    {
+        final int color = this.birdColorHasContent.getColor ();
+        final int blink = this.clipColorIsPlaying.getColor ();
+        if (this.birdColorIsPlaying == null || this.birdColorIsPlaying.getColor () != color || this.birdColorIsPlaying.getBlink () != blink)
+            this.birdColorIsPlaying = new SessionColor (color, blink, false);
+        return this.birdColorIsPlaying;
+    }
+
+
     protected void setColors (final SessionColor isRecording, final SessionColor isRecordingQueued, final SessionColor isPlaying, final SessionColor isPlayingQueued, final SessionColor hasContent, final SessionColor noContent, final SessionColor recArmed)
     {
         this.clipColorIsRecording = isRecording;
@@ -334,6 +440,9 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         this.clipColorHasContent = hasContent;
         this.clipColorHasNoContent = noContent;
         this.clipColorIsRecArmed = recArmed;
+
+        // The cached pad colors are based on the previous colors
+        this.padDescriptors = new PadDescriptor [0] [0];
     }
 
 
@@ -358,11 +467,55 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      */
     protected void drawPad (final ISlot slot, final int x, final int y, final boolean isArmed)
     {
-        final SessionColor color = this.getPadColor (slot, isArmed);
+        final SessionColor color = this.getCachedPadColor (slot, x, y, isArmed);
         this.surface.getPadGrid ().lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
     }
 
 
+    /**
+     * Get the color of a pad. The color is only calculated again if the state or color of the slot
+     * has changed since the last call for the pad.
+     *
+     * @param slot The slot data which is represented on that pad
+     * @param x The x index on the grid
+     * @param y The y index on the grid
+     * @param isArmed True if armed for recording
+     * @return The color
+     */
+    protected SessionColor getCachedPadColor (final ISlot slot, final int x, final int y, final boolean isArmed)
+    {
+        int state = isArmed && this.surface.getConfiguration ().isDrawRecordStripe () ? 1 : 0;
+        if (slot.isRecordingQueued ())
+            state |= 2;
+        if (slot.isRecording ())
+            state |= 4;
+        if (slot.isPlayingQueued ())
+            state |= 8;
+        if (slot.isPlaying ())
+            state |= 16;
+        if (slot.hasContent ())
+            state |= 32;
+        final int argb = this.useClipColor && state > 1 ? slot.getColor ().toARGB () : 0;
+
+        if (x >= this.padDescriptors.length)
+            this.padDescriptors = Arrays.copyOf (this.padDescriptors, x + 1);
+        PadDescriptor [] column = this.padDescriptors[x];
+        if (column == null || y >= column.length)
+        {
+            column = column == null ? new PadDescriptor [y + 1] : Arrays.copyOf (column, y + 1);
+            this.padDescriptors[x] = column;
+        }
+
+        final PadDescriptor descriptor = column[y];
+        if (descriptor != null && descriptor.matches (slot, state, argb))
+            return descriptor.color;
+
+        final SessionColor color = this.getPadColor (slot, isArmed);
+        column[y] = new PadDescriptor (slot, state, argb, color);
+        return color;
+    }
+
+
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
         final String colorIndex = DAWColor.getColorIndex (slot.getColor ());